@@ -0,0 +1,112 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * kakao-login.js와 같은 시나리오의 JDK 부하 드라이버 (k6를 설치할 수 없는 환경용)
+ * 실행: java loadtest/LoginLoad.java [baseUrl=http://localhost:8080] [vus=400] [steadySeconds=60] [authPrefix=/api/auth]
+ * - 가상 유저마다 가상 스레드 1개가 응답을 기다린 뒤 다음 요청 (k6 VU와 같은 닫힌 루프)
+ * - 램프업 구간(steadySeconds / 3)은 집계에서 제외
+ */
+public class LoginLoad {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int vus = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        long steadySeconds = args.length > 2 ? Long.parseLong(args[2]) : 60;
+        String authPrefix = args.length > 3 ? args[3] : "/api/auth";
+        URI callback = URI.create(baseUrl + authPrefix + "/kakao/callback");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long rampNanos = Duration.ofSeconds(steadySeconds / 3).toNanos();
+        long started = System.nanoTime();
+        long measureFrom = started + rampNanos;
+        long measureTo = measureFrom + Duration.ofSeconds(steadySeconds).toNanos();
+
+        AtomicLong ok = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int vu = 0; vu < vus; vu++) {
+                int id = vu;
+                // 램프업: 가상 유저를 구간 동안 고르게 시작
+                long startAt = started + rampNanos * vu / vus;
+                executor.submit(() -> {
+                    long[] samples = new long[1 << 16];
+                    int count = 0;
+                    sleepUntil(startAt);
+                    for (int iteration = 0; System.nanoTime() < measureTo; iteration++) {
+                        HttpRequest request = HttpRequest.newBuilder(callback)
+                                .timeout(Duration.ofSeconds(30))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"vu" + id + "-it" + iteration
+                                        + "\",\"redirectUri\":\"http://localhost:3000/callback\"}"))
+                                .build();
+                        long sent = System.nanoTime();
+                        boolean success;
+                        try {
+                            success = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        long finished = System.nanoTime();
+                        if (sent < measureFrom || finished > measureTo) {
+                            continue;
+                        }
+                        if (success) {
+                            ok.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = finished - sent;
+                    }
+                    latencies.add(Arrays.copyOf(samples, count));
+                    return null;
+                });
+            }
+        }
+
+        List<long[]> all = new ArrayList<>(latencies);
+        long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("vus=%d steady=%ds prefix=%s%n", vus, steadySeconds, authPrefix);
+        System.out.printf("logins=%d (%.1f/s) failed=%d%n", ok.get(), ok.get() / (double) steadySeconds, failed.get());
+        System.out.printf("http_req_duration avg=%.0fms p50=%dms p95=%dms p99=%dms max=%dms%n",
+                Arrays.stream(merged).average().orElse(0) / 1_000_000,
+                percentile(merged, 50), percentile(merged, 95), percentile(merged, 99), percentile(merged, 100));
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(wait));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오 토큰/사용자 정보 API 스텁 (부하 테스트용, 실제 제공자 호출 없이 지연만 재현)
+ * 실행: java loadtest/ProviderStub.java [port=8089] [latencyMs=150]
+ * - POST /oauth/token: 인가코드를 그대로 access_token으로 반환
+ * - GET /v2/user/me: access_token마다 다른 이메일 → 로그인마다 사용자 조회/생성
+ */
+public class ProviderStub {
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 150;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        // 스텁이 병목이 되지 않도록 요청마다 가상 스레드
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        server.createContext("/oauth/token", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String code = formValue(body, "code");
+            respond(exchange, latencyMs,
+                    "{\"access_token\":\"" + code + "\",\"token_type\":\"bearer\",\"expires_in\":21599}");
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            String token = authorization != null ? authorization.substring("Bearer ".length()) : "anonymous";
+            respond(exchange, latencyMs, "{\"id\":" + Math.abs(token.hashCode()) + ",\"kakao_account\":{"
+                    + "\"email\":\"" + token + "@loadtest.local\","
+                    + "\"profile\":{\"nickname\":\"user-" + token + "\"}}}");
+        });
+
+        server.start();
+        System.out.printf("provider stub listening on :%d (latency %dms)%n", port, latencyMs);
+    }
+
+    private static void respond(HttpExchange exchange, long latencyMs, String json) throws IOException {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    private static String formValue(String form, String name) {
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "missing";
+    }
+}
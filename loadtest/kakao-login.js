@@ -0,0 +1,44 @@
+// 동시 카카오 로그인 콜백 부하 테스트 (k6)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 loadtest/kakao-login.js
+// 논블로킹 경로: -e AUTH_PREFIX=/api/reactive/auth (app.reactive-auth.enabled=true)
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 400);
+const AUTH_PREFIX = __ENV.AUTH_PREFIX || '/api/auth';
+
+const logins = new Counter('logins');
+
+export const options = {
+    scenarios: {
+        concurrent_logins: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '20s', target: VUS },
+                { duration: '60s', target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '5s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    // 인가코드가 매번 다르면 스텁이 매번 다른 사용자를 돌려준다 (신규 가입 + 재로그인 혼합은 CODE_POOL로 조절)
+    const pool = Number(__ENV.CODE_POOL || 0);
+    const code = pool > 0
+        ? `user${Math.floor(Math.random() * pool)}`
+        : `vu${__VU}-it${__ITER}`;
+
+    const res = http.post(`${BASE_URL}${AUTH_PREFIX}/kakao/callback`,
+        JSON.stringify({ code, redirectUri: 'http://localhost:3000/callback' }),
+        { headers: { 'Content-Type': 'application/json' } });
+
+    if (check(res, { 'status 200': (r) => r.status === 200 })) {
+        logins.add(1);
+    }
+}
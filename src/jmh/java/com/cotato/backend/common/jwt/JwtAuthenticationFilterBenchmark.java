@@ -0,0 +1,96 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import com.cotato.backend.domain.user.repository.UserProfile;
+import com.cotato.backend.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authorization 헤더 → SecurityContext까지의 필터 전체 경로
+ * Redis 조회(블랙리스트·폐기 시각)는 "폐기되지 않음"으로 고정하여 CPU 비용만 측정한다.
+ * entity 모드는 사용자 캐시 적중 경로 (DB는 첫 호출에만 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"entity", "claims"})
+    public String authenticationMode;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findProfileById(1L))
+                .thenReturn(Optional.of(new UserProfile(1L, "bench", "bench@example.com", "kakao", Role.USER)));
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache(userRepository, true, 1_000,
+                Duration.ofHours(1), new SimpleMeterRegistry());
+        JwtTokenProvider jwtTokenProvider = JwtBenchmarks.newProvider(false, ClaimProfile.FULL,
+                JwtBenchmarks.verifiedTokenCache(cacheEnabled), userPrincipalCache);
+
+        TokenBlacklistService tokenBlacklistService = new TokenBlacklistService(
+                null, Optional.empty(), Optional.empty(), null) {
+            @Override
+            public boolean isBlacklisted(VerifiedToken token) {
+                return false;
+            }
+        };
+        RevocationEpochService revocationEpochService = new RevocationEpochService(
+                null, null, Optional.empty(), Optional.empty(), null,
+                RevocationFallback.FAIL_OPEN, 604_800_000L, Duration.ofSeconds(10)) {
+            @Override
+            public boolean isRevoked(VerifiedToken token) {
+                return false;
+            }
+        };
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userPrincipalCache, tokenBlacklistService,
+                revocationEpochService);
+        ReflectionTestUtils.setField(filter, "authenticationMode",
+                AuthenticationMode.valueOf(authenticationMode.toUpperCase()));
+
+        String accessToken = jwtTokenProvider.createAccessToken(
+                new UserPrincipal(1L, "bench@example.com", "bench", "kakao", Role.USER));
+        request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws Exception {
+        filter.doFilterInternal(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 벤치마크 공용 JwtTokenProvider 구성 (HS256, Access 1시간 / Refresh 7일)
+final class JwtBenchmarks {
+
+    static final String SECRET = "benchmark-secret-0123456789abcdef";
+    static final long ACCESS_TOKEN_VALIDITY = 3_600_000L;
+    static final long REFRESH_TOKEN_VALIDITY = 604_800_000L;
+
+    private JwtBenchmarks() {
+    }
+
+    // 기본 설정: jjwt, FULL 프로필, 검증 캐시 없음
+    static JwtTokenProvider newProvider() {
+        return newProvider(false, ClaimProfile.FULL, verifiedTokenCache(false), null);
+    }
+
+    // userPrincipalCache는 COMPACT 프로필 토큰의 이메일 조회에만 사용 (필요 없으면 null)
+    static JwtTokenProvider newProvider(boolean compactCodec, ClaimProfile claimProfile,
+                                        VerifiedTokenCache verifiedTokenCache, UserPrincipalCache userPrincipalCache) {
+        return new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY, REFRESH_TOKEN_VALIDITY, compactCodec, claimProfile,
+                verifiedTokenCache, new JwtKeyRing(JwtKeyRing.HS256, ""), userPrincipalCache);
+    }
+
+    static VerifiedTokenCache verifiedTokenCache(boolean enabled) {
+        return new VerifiedTokenCache(enabled, 10_000, new SimpleMeterRegistry());
+    }
+}
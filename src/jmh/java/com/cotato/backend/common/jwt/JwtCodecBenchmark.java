@@ -0,0 +1,103 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jjwt 빌더/파서 vs 고정 클레임 코덱 (검증 캐시 없음)
+ * 할당량은 ./gradlew jmh 결과의 gc.alloc.rate.norm (B/op)으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtCodecBenchmark {
+
+    @Param({"jjwt", "compact"})
+    public String codec;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipal principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        assertSameWireFormat();
+
+        jwtTokenProvider = JwtBenchmarks.newProvider("compact".equals(codec), ClaimProfile.FULL,
+                JwtBenchmarks.verifiedTokenCache(false), null);
+        principal = new UserPrincipal(1L, "bench@example.com", "벤치마크", "kakao", Role.USER);
+        accessToken = jwtTokenProvider.createAccessToken(principal);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(principal);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+
+    // 같은 입력이면 jjwt와 바이트 단위로 같은 토큰을 만들고, jjwt 토큰을 같은 값으로 읽어야 함
+    private static void assertSameWireFormat() {
+        SecretKey key = Keys.hmacShaKeyFor(JwtBenchmarks.SECRET.getBytes(StandardCharsets.UTF_8));
+        CompactJwtCodec compact = new CompactJwtCodec(key);
+        long now = System.currentTimeMillis();
+        long exp = now + 3_600_000L;
+
+        String expected = Jwts.builder()
+                .id("AAAAAAAAAAAAAAAAAAAAAA")
+                .subject("42")
+                .claim("email", "bench@example.com")
+                .claim("name", "벤치마크 user")
+                .claim("provider", "kakao")
+                .claim("role", Role.ADMIN.name())
+                .claim("type", TokenType.ACCESS.getValue())
+                .issuedAt(new Date(now))
+                .claim(VerifiedToken.ISSUED_AT_MILLIS, now)
+                .expiration(new Date(exp))
+                .signWith(key)
+                .compact();
+        String actual = compact.encodeAccessToken("AAAAAAAAAAAAAAAAAAAAAA", 42L, "bench@example.com",
+                "벤치마크 user", "kakao", Role.ADMIN.name(), now, exp);
+        check(expected, actual);
+
+        String expectedRefresh = Jwts.builder()
+                .subject("42")
+                .claim("sid", "AAAAAAAAAAAA")
+                .claim("type", TokenType.REFRESH.getValue())
+                .issuedAt(new Date(now))
+                .expiration(new Date(exp))
+                .signWith(key)
+                .compact();
+        check(expectedRefresh, compact.encodeRefreshToken(42L, "AAAAAAAAAAAA", now, exp));
+
+        VerifiedToken decoded = compact.decode(expected, now);
+        if (decoded == null || decoded.getUserId() != 42L || decoded.getRole() != Role.ADMIN
+                || !"벤치마크 user".equals(decoded.getName()) || !decoded.isAccessToken()) {
+            throw new IllegalStateException("코덱이 jjwt 토큰을 읽지 못했습니다: " + expected);
+        }
+    }
+
+    private static void check(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("jjwt와 출력이 다릅니다.\njjwt:    " + expected + "\ncompact: " + actual);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급·검증 (기본 설정: jjwt, 검증 캐시 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserPrincipal principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = JwtBenchmarks.newProvider();
+        principal = new UserPrincipal(1L, "bench@example.com", "bench", "kakao", Role.USER);
+        accessToken = jwtTokenProvider.createAccessToken(principal);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(principal);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtTokenProvider.createRefreshToken(1L, "AAAAAAAAAAAA");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+}
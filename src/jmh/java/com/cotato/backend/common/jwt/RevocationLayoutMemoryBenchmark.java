@@ -0,0 +1,126 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블랙리스트 저장 구조별 Redis 메모리 비교 (JMH가 아닌 단독 실행)
+ * - legacy: 로그아웃마다 "blacklist:{토큰 원문}" = "logout" (PX)
+ * - bucket: "revoked:{만료 분}" Set에 jti (버킷 단위 EXPIREAT)
+ *
+ * 실행: ./gradlew revocationMemoryBenchmark [-Pcount=1000000]
+ * 주의: REDIS_DB(기본 15) 데이터베이스를 FLUSHDB 하므로 전용 Redis에서 실행할 것
+ */
+public class RevocationLayoutMemoryBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        RedisURI uri = RedisURI.builder()
+                .withHost(System.getenv().getOrDefault("REDIS_HOST", "localhost"))
+                .withPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")))
+                .withDatabase(Integer.parseInt(System.getenv().getOrDefault("REDIS_DB", "15")))
+                .build();
+
+        JwtTokenProvider jwtTokenProvider = JwtBenchmarks.newProvider();
+
+        RedisClient client = RedisClient.create(uri);
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            RedisCommands<String, String> sync = connection.sync();
+
+            sync.flushdb();
+            long baseline = usedMemory(sync);
+            writeLegacy(connection, jwtTokenProvider, count);
+            long legacy = usedMemory(sync) - baseline;
+
+            sync.flushdb();
+            baseline = usedMemory(sync);
+            writeBuckets(connection, jwtTokenProvider, count);
+            long bucket = usedMemory(sync) - baseline;
+            sync.flushdb();
+
+            System.out.printf("revocations      : %,d%n", count);
+            System.out.printf("legacy (per key) : %,d bytes (%.1f B/revocation)%n", legacy, (double) legacy / count);
+            System.out.printf("bucketed sets    : %,d bytes (%.1f B/revocation)%n", bucket, (double) bucket / count);
+            System.out.printf("reduction        : %.1fx%n", (double) legacy / bucket);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    // 1시간 동안 고르게 로그아웃된 상황을 가정: 만료 시각을 60분에 분산
+    private static VerifiedToken revokedToken(JwtTokenProvider jwtTokenProvider, long index) {
+        String token = jwtTokenProvider.createAccessToken(
+                new UserPrincipal(index, "user" + index + "@example.com", "user" + index, "kakao", Role.USER));
+        return jwtTokenProvider.verify(token).orElseThrow();
+    }
+
+    private static void writeLegacy(StatefulRedisConnection<String, String> connection,
+                                    JwtTokenProvider jwtTokenProvider, int count) throws Exception {
+        pipelined(connection, count, (async, i, futures) -> {
+            VerifiedToken token = revokedToken(jwtTokenProvider, i);
+            long ttl = JwtBenchmarks.ACCESS_TOKEN_VALIDITY - (i % 60) * 60_000L;
+            futures.add(async.psetex(TokenBlacklistService.BLACKLIST_PREFIX + token.getToken(), ttl, "logout"));
+        });
+    }
+
+    private static void writeBuckets(StatefulRedisConnection<String, String> connection,
+                                     JwtTokenProvider jwtTokenProvider, int count) throws Exception {
+        pipelined(connection, count, (async, i, futures) -> {
+            VerifiedToken token = revokedToken(jwtTokenProvider, i);
+            Instant expiresAt = token.getExpiresAt().minus(Duration.ofMinutes(i % 60));
+            long bucket = TokenBlacklistService.bucketOf(expiresAt);
+            String key = TokenBlacklistService.REVOKED_BUCKET_PREFIX + bucket;
+            futures.add(async.sadd(key, token.getId()));
+            futures.add(async.expireat(key, TokenBlacklistService.bucketEndMillis(bucket) / 1000 + 60));
+        });
+    }
+
+    private static void pipelined(StatefulRedisConnection<String, String> connection, int count, Writer writer)
+            throws Exception {
+        RedisAsyncCommands<String, String> async = connection.async();
+        connection.setAutoFlushCommands(false);
+        try {
+            List<RedisFuture<?>> futures = new ArrayList<>(BATCH_SIZE * 2);
+            for (long i = 0; i < count; i++) {
+                writer.write(async, i, futures);
+                if (futures.size() >= BATCH_SIZE) {
+                    connection.flushCommands();
+                    LettuceFutures.awaitAll(30, TimeUnit.SECONDS, futures.toArray(new RedisFuture[0]));
+                    futures.clear();
+                }
+            }
+            connection.flushCommands();
+            LettuceFutures.awaitAll(30, TimeUnit.SECONDS, futures.toArray(new RedisFuture[0]));
+        } finally {
+            connection.setAutoFlushCommands(true);
+        }
+    }
+
+    private static long usedMemory(RedisCommands<String, String> sync) {
+        for (String line : sync.info("memory").split("\r?\n")) {
+            if (line.startsWith("used_memory:")) {
+                return Long.parseLong(line.substring("used_memory:".length()).trim());
+            }
+        }
+        throw new IllegalStateException("used_memory를 찾을 수 없습니다.");
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(RedisAsyncCommands<String, String> async, long index, List<RedisFuture<?>> futures);
+    }
+}
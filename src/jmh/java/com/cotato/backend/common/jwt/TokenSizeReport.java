@@ -0,0 +1,53 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+
+import java.util.Random;
+
+/**
+ * 클레임 프로필별 평균 토큰 크기 (바이트, ASCII라 문자 수와 같음)
+ * 제공자·이메일·한글/영문 이름 길이를 섞은 사용자 샘플로 Access/Refresh Token을 발급해 비교한다.
+ *
+ * 실행: ./gradlew tokenSizeReport [-Pcount=10000]
+ */
+public class TokenSizeReport {
+
+    private static final String[] PROVIDERS = {"google", "kakao", "naver"};
+    private static final String[] DOMAINS = {"gmail.com", "kakao.com", "naver.com"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수빈"};
+    private static final int ADMIN_EVERY = 100;
+    private static final String SESSION_ID = "AAAAAAAAAAAA"; // RefreshTokenService.newSessionId()와 같은 12자
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        System.out.printf("%-8s %12s %12s %22s%n", "profile", "access(avg)", "refresh(avg)", "Authorization(avg)");
+        for (ClaimProfile profile : ClaimProfile.values()) {
+            JwtTokenProvider jwtTokenProvider = JwtBenchmarks.newProvider(false, profile,
+                    JwtBenchmarks.verifiedTokenCache(false), null);
+            Random random = new Random(42); // 프로필마다 같은 사용자 샘플
+
+            long accessBytes = 0;
+            long refreshBytes = 0;
+            for (int i = 0; i < count; i++) {
+                accessBytes += jwtTokenProvider.createAccessToken(samplePrincipal(random, i)).length();
+                refreshBytes += jwtTokenProvider.createRefreshToken((long) i + 1, SESSION_ID).length();
+            }
+
+            double access = (double) accessBytes / count;
+            System.out.printf("%-8s %12.1f %12.1f %22.1f%n", profile, access, (double) refreshBytes / count,
+                    "Authorization: Bearer ".length() + access);
+        }
+    }
+
+    private static UserPrincipal samplePrincipal(Random random, int index) {
+        int provider = random.nextInt(PROVIDERS.length);
+        String name = random.nextInt(3) == 0
+                ? "user" + random.nextInt(100_000)
+                : FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        String email = "user" + (index + 1) + "." + Integer.toHexString(random.nextInt()) + "@" + DOMAINS[provider];
+        Role role = index % ADMIN_EVERY == 0 ? Role.ADMIN : Role.USER;
+        return new UserPrincipal((long) index + 1, email, name, PROVIDERS[provider], role);
+    }
+}
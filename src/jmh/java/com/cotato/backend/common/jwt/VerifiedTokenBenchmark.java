@@ -0,0 +1,42 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 캐시 on/off 비교: 같은 Access Token을 반복 검증하는 요청 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VerifiedTokenBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = JwtBenchmarks.newProvider(false, ClaimProfile.FULL,
+                JwtBenchmarks.verifiedTokenCache(cacheEnabled), null);
+        accessToken = jwtTokenProvider.createAccessToken(
+                new UserPrincipal(1L, "bench@example.com", "bench", "kakao", Role.USER));
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtTokenProvider.verify(accessToken);
+    }
+}
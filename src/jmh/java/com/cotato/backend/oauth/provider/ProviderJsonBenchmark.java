@@ -0,0 +1,92 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제공자 사용자 정보 응답 → 프로필
+ * map: 이전 방식 (응답 전체를 Map으로 바인딩 후 중첩 Map에서 꺼냄), streaming: OAuth2ProviderClient.readProfile
+ * 할당량은 gc.alloc.rate.norm (B/op)으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProviderJsonBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"GOOGLE", "NAVER", "KAKAO"})
+    public OAuth2Provider provider;
+
+    private OAuth2ProviderClient client;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        // 실제 응답처럼 사용하지 않는 필드 포함
+        String json = switch (provider) {
+            case GOOGLE -> {
+                client = new GoogleOAuth2Client();
+                yield """
+                        {"id":"1234567890","email":"bench@gmail.com","verified_email":true,"name":"bench",
+                         "given_name":"bench","family_name":"user","picture":"https://lh3.googleusercontent.com/a/x","locale":"ko"}""";
+            }
+            case NAVER -> {
+                client = new NaverOAuth2Client();
+                yield """
+                        {"resultcode":"00","message":"success","response":{"id":"naver-id","nickname":"bench",
+                         "profile_image":"https://phinf.pstatic.net/x.png","email":"bench@naver.com","name":"bench"}}""";
+            }
+            case KAKAO -> {
+                client = new KakaoOAuth2Client();
+                yield """
+                        {"id":1,"connected_at":"2024-01-01T00:00:00Z","properties":{"nickname":"bench"},
+                         "kakao_account":{"profile_nickname_needs_agreement":false,"profile":{"nickname":"bench",
+                         "thumbnail_image_url":"http://k.kakaocdn.net/x.jpg","is_default_image":true},
+                         "has_email":true,"email_needs_agreement":false,"email":"bench@kakao.com"}}""";
+            }
+        };
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public OAuth2Profile streaming() throws IOException {
+        try (JsonParser parser = ProviderJson.parser(body)) {
+            return client.readProfile(parser);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public OAuth2Profile map() throws IOException {
+        Map<String, Object> attributes = OBJECT_MAPPER.readValue(body, Map.class);
+        Map<String, Object> source = switch (provider) {
+            case GOOGLE -> attributes;
+            case NAVER -> (Map<String, Object>) attributes.get("response");
+            case KAKAO -> (Map<String, Object>) attributes.get("kakao_account");
+        };
+        String name = provider == OAuth2Provider.KAKAO
+                ? (String) ((Map<String, Object>) source.get("profile")).get("nickname")
+                : (String) source.get("name");
+        return OAuth2Profile.builder()
+                .name(name)
+                .email((String) source.get("email"))
+                .provider(provider.getRegistrationId())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cotato.backend.admin.controller;
+
+import com.cotato.backend.admin.dto.request.ForceLogoutRequest;
+import com.cotato.backend.common.dto.response.DataResponse;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.common.exception.ValidationException;
+import com.cotato.backend.common.jwt.LogoutService;
+import com.cotato.backend.user.dto.response.UserPageResponse;
+import com.cotato.backend.user.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 API")
+public class AdminController {
+
+    private final LogoutService logoutService;
+    private final UserService userService;
+
+    // 사용자 목록 (id 키셋 페이지) - 다음 페이지는 응답의 nextCursor를 cursor로 전달
+    @GetMapping("/users")
+    @Operation(summary = "사용자 목록 조회", description = "ID 순 키셋 페이지네이션. provider를 여러 번 지정하면 해당 제공자 사용자만 조회합니다.")
+    @SecurityRequirement(name = "accessTokenAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DataResponse<UserPageResponse>> getUsers(
+        @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+        @Parameter(description = "제공자 필터 (kakao, naver, google)") @RequestParam(name = "provider", required = false) List<String> providers,
+        @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(DataResponse.from(userService.getPage(cursor, providers, size)));
+    }
+
+    // 전체 사용자 내보내기 (JSON Lines 스트리밍, 서버 메모리 사용량은 행 수와 무관)
+    @GetMapping(value = "/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "사용자 내보내기", description = "전체 사용자를 한 줄에 하나씩 JSON으로 스트리밍합니다.")
+    @SecurityRequirement(name = "accessTokenAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        @Parameter(description = "제공자 필터 (kakao, naver, google)") @RequestParam(name = "provider", required = false) List<String> providers) {
+
+        StreamingResponseBody body = out -> {
+            long count = userService.export(providers, out);
+            log.info("사용자 내보내기 완료 - {}명", count);
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    // 여러 사용자 강제 로그아웃 (모든 기기, 1000명 단위 파이프라인)
+    @PostMapping("/users/logout")
+    @Operation(summary = "사용자 강제 로그아웃", description = "지정한 사용자들의 모든 Access/Refresh Token을 폐기합니다.")
+    @SecurityRequirement(name = "accessTokenAuth")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DataResponse<String>> forceLogout(@RequestBody ForceLogoutRequest request) {
+        if (request.getUserIds() == null || request.getUserIds().isEmpty()) {
+            throw new ValidationException(ErrorCode.INVALID_PARAMETER);
+        }
+
+        logoutService.logoutAll(request.getUserIds());
+        log.info("관리자 강제 로그아웃 - {}명", request.getUserIds().size());
+        return ResponseEntity.ok(DataResponse.from(request.getUserIds().size() + "명을 로그아웃 처리했습니다."));
+    }
+}
@@ -0,0 +1,18 @@
+package com.cotato.backend.admin.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "강제 로그아웃 요청")
+public class ForceLogoutRequest {
+
+    @Schema(description = "로그아웃시킬 사용자 ID 목록", example = "[1, 2, 3]")
+    private List<Long> userIds;
+}
@@ -0,0 +1,42 @@
+package com.cotato.backend.common.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+/**
+ * 조회 결과를 TTL 동안 보관하는 DNS 리졸버 (OAuth 제공자 호스트는 몇 개뿐)
+ * 새 연결(풀 증가, TTL 만료 후 재연결)마다 시스템 리졸버를 거치지 않는다.
+ */
+class CachingDnsResolver implements DnsResolver {
+
+    private final Cache<String, InetAddress[]> addresses;
+
+    CachingDnsResolver(Duration ttl) {
+        this.addresses = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        InetAddress[] cached = addresses.getIfPresent(host);
+        if (cached != null) {
+            return cached;
+        }
+        InetAddress[] resolved = SystemDefaultDnsResolver.INSTANCE.resolve(host);
+        addresses.put(host, resolved);
+        return resolved;
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) throws UnknownHostException {
+        return SystemDefaultDnsResolver.INSTANCE.resolveCanonicalHostname(host);
+    }
+}
@@ -0,0 +1,132 @@
+package com.cotato.backend.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OAuth 제공자(카카오·네이버·구글) 호출용 공유 HTTP 클라이언트
+ * - 연결 풀 하나를 공유하고 호스트(라우트)별 연결 수·연결/응답 시간 제한은 제공자 설정을 따른다.
+ * - keep-alive 연결 재사용으로 로그인마다 TCP/TLS 핸드셰이크를 반복하지 않음
+ * - 유휴 연결은 idle-timeout 후 정리, 연결 수명은 connection-time-to-live (제공자 측 DNS 변경 반영)
+ * - HTTP/1.1 전용 (HttpClient 5 classic API), HTTP/2는 ReactiveOAuthClient에서만 사용
+ */
+@Configuration
+@EnableConfigurationProperties(OAuthHttpProperties.class)
+public class OAuthHttpClientConfig {
+
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(5);
+    private static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+    @Bean
+    public PoolingHttpClientConnectionManager oAuthConnectionManager(OAuthHttpProperties properties,
+                                                                     MeterRegistry meterRegistry) {
+        ConnectionConfig defaultConfig = connectionConfig(properties, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+        Map<String, ConnectionConfig> configByHost = new HashMap<>();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setDnsResolver(new CachingDnsResolver(properties.dnsCacheTtl()))
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(DEFAULT_MAX_PER_ROUTE)
+                .setDefaultConnectionConfig(defaultConfig)
+                .build();
+
+        properties.providers().forEach((name, provider) -> {
+            ConnectionConfig config = connectionConfig(properties, provider.connectTimeout(), provider.readTimeout());
+            for (String host : provider.hosts()) {
+                URI endpoint = OAuthHttpProperties.Provider.endpoint(host);
+                configByHost.put(endpoint.getHost(), config);
+                // 라우트 동일성은 (scheme, host, port, secure)로 판단 → 클라이언트가 만드는 라우트와 같게 생성
+                connectionManager.setMaxPerRoute(new HttpRoute(
+                                new HttpHost(endpoint.getScheme(), endpoint.getHost(), endpoint.getPort()), null,
+                                "https".equals(endpoint.getScheme())),
+                        provider.maxConnections());
+            }
+        });
+        connectionManager.setConnectionConfigResolver(route ->
+                configByHost.getOrDefault(route.getTargetHost().getHostName(), defaultConfig));
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "oauth").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient oAuthHttpClient(PoolingHttpClientConnectionManager oAuthConnectionManager,
+                                               OAuthHttpProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(oAuthConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.connectionRequestTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(properties.idleTimeout()))
+                .evictExpiredConnections()
+                .disableCookieManagement()
+                .build();
+    }
+
+    // 제공자 서비스가 공유하는 RestClient (요청 시간 제한은 라우트별 연결 설정에서 적용)
+    @Bean
+    public RestClient oAuthRestClient(CloseableHttpClient oAuthHttpClient, OAuthHttpProperties properties) {
+        Map<String, Duration> readTimeoutByHost = new HashMap<>();
+        properties.providers().values().forEach(provider ->
+                provider.hosts().forEach(host -> readTimeoutByHost.put(
+                        OAuthHttpProperties.Provider.endpoint(host).getHost(), provider.readTimeout())));
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(oAuthHttpClient);
+        // ProviderDeadline 안에서 호출되면 남은 시간으로 연결 대기·응답 시간 제한을 줄인다.
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            Duration remaining = ProviderDeadline.remaining();
+            if (remaining == null) {
+                return null;
+            }
+            if (remaining.isNegative() || remaining.isZero()) {
+                throw new ProviderDeadline.ExceededException();
+            }
+            Duration readTimeout = readTimeoutByHost.getOrDefault(uri.getHost(), DEFAULT_READ_TIMEOUT);
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.of(min(remaining, properties.connectionRequestTimeout())))
+                    .setResponseTimeout(Timeout.of(min(remaining, readTimeout)))
+                    .build());
+            return context;
+        });
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static ConnectionConfig connectionConfig(OAuthHttpProperties properties,
+                                                     Duration connectTimeout, Duration readTimeout) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(properties.connectionTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.cotato.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OAuth 제공자 호출용 공유 HTTP 클라이언트 설정 (app.oauth.http)
+ * providers의 각 항목은 제공자 호스트별 연결 수 상한과 시간 제한
+ */
+@ConfigurationProperties("app.oauth.http")
+public record OAuthHttpProperties(
+        @DefaultValue("200") int maxConnections,
+        @DefaultValue("1s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration idleTimeout,
+        @DefaultValue("5m") Duration connectionTimeToLive,
+        @DefaultValue("60s") Duration dnsCacheTtl,
+        Map<String, Provider> providers) {
+
+    public OAuthHttpProperties {
+        providers = providers != null ? providers : Map.of();
+    }
+
+    /**
+     * @param hosts 제공자 API 호스트 (https, 443), 로컬 스텁 등은 http://localhost:8089처럼 scheme·port를 함께 지정
+     * @param maxConnections 호스트당 최대 연결 수
+     * @param connectTimeout TCP/TLS 연결 시간 제한
+     * @param readTimeout 응답 대기 시간 제한 (소켓 읽기)
+     * @param deadline 로그인 콜백 한 번의 제공자 호출 전체(토큰 교환 + 사용자 정보) 시간 예산
+     */
+    public record Provider(
+            List<String> hosts,
+            @DefaultValue("20") int maxConnections,
+            @DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("3s") Duration readTimeout,
+            @DefaultValue("4s") Duration deadline) {
+
+        public Provider {
+            hosts = hosts != null ? hosts : List.of();
+        }
+
+        // hosts 항목 → 요청 URI와 같은 scheme·host·port (포트 생략 시 scheme 기본 포트)
+        public static URI endpoint(String host) {
+            URI uri = URI.create(host.contains("://") ? host : "https://" + host);
+            int port = uri.getPort() != -1 ? uri.getPort() : "https".equals(uri.getScheme()) ? 443 : 80;
+            return URI.create(uri.getScheme() + "://" + uri.getHost() + ":" + port);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.cotato.backend.common.config;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 제공자 호출 마감 시각
+ * - 로그인 콜백의 토큰 교환 ~ 사용자 정보 조회를 하나의 시간 예산으로 묶는다.
+ * - OAuth RestClient는 요청마다 남은 시간으로 연결 대기·응답 시간 제한을 줄이고, 이미 지났으면 호출하지 않는다.
+ * 호출이 같은 스레드에서 동기로 이어지는 경우에만 유효 (리액티브 경로는 Mono.timeout 사용)
+ */
+public final class ProviderDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private ProviderDeadline() {
+    }
+
+    public static <T> T within(Duration budget, Supplier<T> call) {
+        Long previous = DEADLINE_NANOS.get();
+        long deadline = System.nanoTime() + budget.toNanos();
+        // 바깥 예산이 더 짧으면 그대로 유지
+        DEADLINE_NANOS.set(previous != null && previous - deadline < 0 ? previous : deadline);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                DEADLINE_NANOS.set(previous);
+            } else {
+                DEADLINE_NANOS.remove();
+            }
+        }
+    }
+
+    // 남은 시간 (마감 시각이 없으면 null, 지났으면 0 이하)
+    static Duration remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null ? Duration.ofNanos(deadline - System.nanoTime()) : null;
+    }
+
+    // 마감 시각이 지나 다음 제공자 호출을 보내지 않음
+    public static class ExceededException extends RuntimeException {
+
+        public ExceededException() {
+            super("제공자 호출 시간 예산 초과", null, false, false);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.cotato.backend.common.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -15,6 +21,37 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    /**
+     * Redis 장애 시 빠르게 실패하도록 Lettuce 옵션 설정
+     * - 명령 시간 제한: spring.data.redis.timeout (요청 스레드가 기다리는 최대 시간)
+     * - 연결이 끊긴 동안의 명령은 재연결까지 쌓아 두지 않고 즉시 거부 → RedisGuard 차단기가 실패로 집계
+     */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer failFastLettuceCustomizer(RedisProperties redisProperties) {
+        SocketOptions.Builder socketOptions = SocketOptions.builder();
+        if (redisProperties.getConnectTimeout() != null) {
+            socketOptions.connectTimeout(redisProperties.getConnectTimeout());
+        }
+        ClientOptions clientOptions = ClientOptions.builder()
+                .socketOptions(socketOptions.build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+        return builder -> builder.clientOptions(clientOptions);
+    }
+
+    // pub/sub 구독 컨테이너 (연결 끊김 시 자동 재구독)
+    // - 일괄 폐기 epoch 캐시 무효화: 항상 사용 (없으면 다른 노드가 cache-ttl 동안 폐기된 토큰을 허용)
+    // - 블랙리스트 미러 동기화: jwt.blacklist.mirror.enabled=true일 때
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -39,8 +39,14 @@ public class SecurityConfig {
                 // Swagger 경로 허용
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 
+                // JWT 검증 공개키
+                .requestMatchers("/.well-known/jwks.json").permitAll()
+
+                // 헬스 체크 (지표는 인증 필요)
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+
                 // 인증 API (카카오 콜백 포함)
-                .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/api/auth/**", "/api/reactive/auth/**").permitAll()
 
                 // 사용자 API (인증 필요)
                 .requestMatchers("/api/users/**").authenticated()
@@ -11,4 +11,16 @@ public class AppException extends RuntimeException {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
     }
+
+    // 로그용 상세 메시지 (응답에는 ErrorCode 메시지만 사용)
+    public AppException(ErrorCode errorCode, String detail) {
+        super(errorCode.getMessage() + " - " + detail);
+        this.errorCode = errorCode;
+    }
+
+    // 원인 예외 보관 (차단기 등에서 실패 종류 판단)
+    public AppException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause);
+        this.errorCode = errorCode;
+    }
 }
\ No newline at end of file
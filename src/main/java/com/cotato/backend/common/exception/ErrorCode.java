@@ -15,9 +15,11 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부에서 에러가 발생하였습니다.", "COMMON-004"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.", "COMMON-005"),
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.", "COMMON-006"),
+    REDIS_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", "COMMON-007"),
 
     // 유저 관련 에러
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 유저입니다.", "USER-001"),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 세션입니다.", "USER-002"),
 
     // JWT 관련 에러
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.", "JWT-001"),
@@ -26,6 +28,10 @@ public enum ErrorCode {
 
     // OAuth 관련 에러
     OAUTH_PROVIDER_ERROR(HttpStatus.BAD_GATEWAY, "OAuth 제공자와의 통신에 실패했습니다.", "OAUTH-001"),
+    OAUTH_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "로그인 제공자가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", "OAUTH-002"),
+    UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.BAD_REQUEST, "지원하지 않는 로그인 제공자입니다.", "OAUTH-003"),
+    OAUTH_EMAIL_REQUIRED(HttpStatus.BAD_REQUEST, "이메일 제공에 동의해야 로그인할 수 있습니다.", "OAUTH-004"),
+    OAUTH_INVALID_GRANT(HttpStatus.BAD_REQUEST, "인가 코드가 유효하지 않거나 만료되었습니다. 다시 로그인해주세요.", "OAUTH-005"),
     ;
 
     private final HttpStatus httpStatus;
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -24,6 +25,16 @@ public class GlobalExceptionHandler {
                 .body(errorResponse);
     }
 
+    // @PreAuthorize 거부 (Exception 핸들러가 500으로 바꾸지 않도록 403으로 응답)
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e, HttpServletRequest request) {
+        log.warn("접근 거부: {} {}", request.getMethod(), request.getRequestURI());
+
+        return ResponseEntity
+                .status(ErrorCode.FORBIDDEN.getHttpStatus())
+                .body(ErrorResponse.of(ErrorCode.FORBIDDEN, request));
+    }
+
     // 처리되지 않은 모든 예외
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllException(Exception e, HttpServletRequest request) {
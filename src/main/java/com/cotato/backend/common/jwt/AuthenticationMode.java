@@ -0,0 +1,11 @@
+package com.cotato.backend.common.jwt;
+
+/**
+ * Access Token 인증 시 principal을 만드는 방식
+ * ENTITY: 요청마다 DB에서 사용자 조회 (탈퇴·정보 변경 즉시 반영)
+ * CLAIMS: 토큰 클레임만으로 생성, DB 조회 없음 (변경 사항은 토큰 만료 후 반영)
+ */
+public enum AuthenticationMode {
+    ENTITY,
+    CLAIMS
+}
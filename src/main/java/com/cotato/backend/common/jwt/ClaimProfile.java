@@ -0,0 +1,13 @@
+package com.cotato.backend.common.jwt;
+
+/**
+ * Access/Refresh Token에 넣는 클레임 구성
+ * FULL: jti, sub, email, name, provider, role, type ("access"/"refresh"), iat, exp
+ * COMPACT: jti, sub, role (USER가 아닐 때만), t ("a"/"r"), iat, exp
+ *          → 요청마다 전송되는 Authorization 헤더가 짧아지는 대신, 이메일·프로필은 사용자 캐시/DB에서 조회
+ *          (claims 인증 모드와 함께 사용할 수 없음)
+ */
+public enum ClaimProfile {
+    FULL,
+    COMPACT
+}
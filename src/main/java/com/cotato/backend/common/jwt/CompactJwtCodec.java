@@ -0,0 +1,560 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 우리가 발급하는 고정 클레임 집합 전용 HS* JWT 인코더/디코더
+ * - 헤더({"alg":"HS256"})는 미리 base64url 인코딩해 두고 비교만 한다.
+ * - 페이로드 JSON을 Map/Jackson 없이 바이트 배열에 직접 쓰고, 읽을 때도 필드를 바로 추출한다.
+ * - Mac과 작업 버퍼는 재사용한다. (플랫폼 스레드별, 가상 스레드는 공유 풀)
+ * 출력은 jjwt(Jackson 직렬화, 클레임 삽입 순서)와 바이트 단위로 동일하다.
+ * 고정 형식을 벗어나는 입력(이스케이프가 필요한 문자열, 빈 값, 모르는 클레임, 다른 헤더, 서명 불일치, 만료)은
+ * null을 반환하고, 호출 측이 jjwt 경로로 처리한다.
+ */
+final class CompactJwtCodec {
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = i;
+        }
+    }
+
+    // 페이로드 필드 접두어 (jjwt 빌더 호출 순서와 동일)
+    private static final byte[] OPEN_JTI = ascii("{\"jti\":\"");
+    private static final byte[] OPEN_SUB = ascii("{\"sub\":\"");
+    private static final byte[] SUB = ascii(",\"sub\":\"");
+    private static final byte[] SID = ascii(",\"sid\":\"");
+    private static final byte[] EMAIL = ascii(",\"email\":\"");
+    private static final byte[] NAME = ascii(",\"name\":\"");
+    private static final byte[] PROVIDER = ascii(",\"provider\":\"");
+    private static final byte[] ROLE = ascii(",\"role\":\"");
+    private static final byte[] TYPE = ascii(",\"type\":\"");
+    private static final byte[] IAT = ascii(",\"iat\":");
+    private static final byte[] IAT_MS = ascii(",\"" + VerifiedToken.ISSUED_AT_MILLIS + "\":");
+    private static final byte[] EXP = ascii(",\"exp\":");
+
+    // 디코딩 시 클레임 이름
+    private static final byte[] KEY_JTI = ascii("jti");
+    private static final byte[] KEY_SUB = ascii("sub");
+    private static final byte[] KEY_SID = ascii("sid");
+    private static final byte[] KEY_EMAIL = ascii("email");
+    private static final byte[] KEY_NAME = ascii("name");
+    private static final byte[] KEY_PROVIDER = ascii("provider");
+    private static final byte[] KEY_ROLE = ascii("role");
+    private static final byte[] KEY_TYPE = ascii("type");
+    private static final byte[] KEY_TYPE_CODE = ascii("t");
+    private static final byte[] KEY_IAT = ascii("iat");
+    private static final byte[] KEY_IAT_MS = ascii(VerifiedToken.ISSUED_AT_MILLIS);
+    private static final byte[] KEY_EXP = ascii("exp");
+
+    private final SecretKey secretKey;
+    private final byte[] encodedHeader;
+    private final int signatureLength;
+    private final ScratchPool<Scratch> scratch = new ScratchPool<>(Scratch::new);
+
+    CompactJwtCodec(SecretKey secretKey) {
+        this.secretKey = secretKey;
+        // Keys.hmacShaKeyFor가 키 길이로 정한 알고리즘 (HmacSHA256 → HS256), jjwt의 signWith(key)와 같은 선택
+        String keyAlgorithm = secretKey.getAlgorithm();
+        if (!keyAlgorithm.startsWith("HmacSHA")) {
+            throw new IllegalArgumentException("HMAC 키가 아닙니다: " + keyAlgorithm);
+        }
+        String header = "{\"alg\":\"HS" + keyAlgorithm.substring("HmacSHA".length()) + "\"}";
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding().encode(ascii(header));
+        this.signatureLength = newMac().getMacLength();
+    }
+
+    // Access Token 인코딩 (형식 밖 값이면 null)
+    String encodeAccessToken(String id, long userId, String email, String name, String provider, String role,
+                             long issuedAtMillis, long expiresAtMillis) {
+        if (!hasText(id) || !hasText(email) || !hasText(name) || !hasText(provider) || !hasText(role)) {
+            return null;
+        }
+        Scratch s = scratch.acquire();
+        try {
+            byte[] payload = s.payload(160 + 3 * (id.length() + email.length() + name.length()
+                    + provider.length() + role.length()));
+
+            int p = writeString(payload, 0, OPEN_JTI, id);
+            p = writeNumericString(payload, p, SUB, userId);
+            p = writeString(payload, p, EMAIL, email);
+            p = writeString(payload, p, NAME, name);
+            p = writeString(payload, p, PROVIDER, provider);
+            p = writeString(payload, p, ROLE, role);
+            p = writeString(payload, p, TYPE, TokenType.ACCESS.getValue());
+            p = writeNumber(payload, p, IAT, issuedAtMillis / 1000);
+            p = writeNumber(payload, p, IAT_MS, issuedAtMillis);
+            p = writeNumber(payload, p, EXP, expiresAtMillis / 1000);
+            if (p < 0) {
+                return null;
+            }
+            payload[p++] = '}';
+            return sign(s, payload, p);
+        } finally {
+            scratch.release(s);
+        }
+    }
+
+    // Refresh Token 인코딩
+    String encodeRefreshToken(long userId, String sessionId, long issuedAtMillis, long expiresAtMillis) {
+        if (!hasText(sessionId)) {
+            return null;
+        }
+        Scratch s = scratch.acquire();
+        try {
+            byte[] payload = s.payload(128 + 3 * sessionId.length());
+
+            int p = writeNumericString(payload, 0, OPEN_SUB, userId);
+            p = writeString(payload, p, SID, sessionId);
+            p = writeString(payload, p, TYPE, TokenType.REFRESH.getValue());
+            p = writeNumber(payload, p, IAT, issuedAtMillis / 1000);
+            p = writeNumber(payload, p, EXP, expiresAtMillis / 1000);
+            if (p < 0) {
+                return null;
+            }
+            payload[p++] = '}';
+            return sign(s, payload, p);
+        } finally {
+            scratch.release(s);
+        }
+    }
+
+    /**
+     * 서명·만료 검증 후 클레임 뷰 반환
+     * 이 코덱이 처리하지 않는 토큰이거나 유효하지 않으면 null (jjwt가 원인별 로그와 함께 다시 판단)
+     */
+    VerifiedToken decode(String token, long nowMillis) {
+        if (token == null) {
+            return null;
+        }
+        int headerLength = encodedHeader.length;
+        int length = token.length();
+        if (length <= headerLength + 2 || token.charAt(headerLength) != '.') {
+            return null;
+        }
+        for (int i = 0; i < headerLength; i++) {
+            if (token.charAt(i) != encodedHeader[i]) {
+                return null;
+            }
+        }
+        int secondDot = token.indexOf('.', headerLength + 1);
+        if (secondDot < 0) {
+            return null;
+        }
+
+        Scratch s = scratch.acquire();
+        try {
+            if (length - secondDot - 1 != s.encodedSignature.length) {
+                return null;
+            }
+
+            // 서명 입력(header.payload)은 ASCII여야 함
+            byte[] signingInput = s.output(secondDot);
+            for (int i = 0; i < secondDot; i++) {
+                char c = token.charAt(i);
+                if (c >= 0x80) {
+                    return null;
+                }
+                signingInput[i] = (byte) c;
+            }
+            computeSignature(s, signingInput, secondDot);
+            encode(s.signature, signatureLength, s.encodedSignature, 0);
+
+            // 상수 시간 비교
+            int diff = 0;
+            for (int i = 0; i < s.encodedSignature.length; i++) {
+                diff |= token.charAt(secondDot + 1 + i) ^ s.encodedSignature[i];
+            }
+            if (diff != 0) {
+                return null;
+            }
+
+            byte[] payload = s.payload((secondDot - headerLength) * 3 / 4 + 1);
+            int payloadLength = decode(token, headerLength + 1, secondDot, payload);
+            if (payloadLength < 0) {
+                return null;
+            }
+            return s.reader.read(token, payload, payloadLength, nowMillis);
+        } finally {
+            scratch.release(s);
+        }
+    }
+
+    private String sign(Scratch s, byte[] payload, int payloadLength) {
+        int headerLength = encodedHeader.length;
+        int signingInputLength = headerLength + 1 + encodedLength(payloadLength);
+        int tokenLength = signingInputLength + 1 + s.encodedSignature.length;
+        byte[] out = s.output(tokenLength);
+
+        System.arraycopy(encodedHeader, 0, out, 0, headerLength);
+        out[headerLength] = '.';
+        encode(payload, payloadLength, out, headerLength + 1);
+        computeSignature(s, out, signingInputLength);
+        out[signingInputLength] = '.';
+        encode(s.signature, signatureLength, out, signingInputLength + 1);
+
+        return new String(out, 0, tokenLength, StandardCharsets.ISO_8859_1);
+    }
+
+    private void computeSignature(Scratch s, byte[] input, int length) {
+        try {
+            s.mac.update(input, 0, length);
+            s.mac.doFinal(s.signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 계산에 실패했습니다.", e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(secretKey.getAlgorithm());
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC을 초기화할 수 없습니다.", e);
+        }
+    }
+
+    // prefix + UTF-8 문자열 + '"' (Jackson이 이스케이프할 문자나 서로게이트가 있으면 -1)
+    private static int writeString(byte[] dst, int p, byte[] prefix, String value) {
+        if (p < 0) {
+            return p;
+        }
+        System.arraycopy(prefix, 0, dst, p, prefix.length);
+        p += prefix.length;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || Character.isSurrogate(c)) {
+                return -1;
+            }
+            if (c < 0x80) {
+                dst[p++] = (byte) c;
+            } else if (c < 0x800) {
+                dst[p++] = (byte) (0xC0 | (c >> 6));
+                dst[p++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                dst[p++] = (byte) (0xE0 | (c >> 12));
+                dst[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        dst[p++] = '"';
+        return p;
+    }
+
+    // sub는 문자열 클레임 ("sub":"1")
+    private static int writeNumericString(byte[] dst, int p, byte[] prefix, long value) {
+        p = writeNumber(dst, p, prefix, value);
+        if (p < 0) {
+            return p;
+        }
+        dst[p++] = '"';
+        return p;
+    }
+
+    private static int writeNumber(byte[] dst, int p, byte[] prefix, long value) {
+        if (p < 0 || value < 0) {
+            return -1;
+        }
+        System.arraycopy(prefix, 0, dst, p, prefix.length);
+        p += prefix.length;
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = p + digits - 1; i >= p; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return p + digits;
+    }
+
+    // base64url 인코딩 (패딩 없음), 쓴 위치 다음 인덱스 반환
+    private static int encode(byte[] src, int length, byte[] dst, int p) {
+        int i = 0;
+        for (int full = length / 3 * 3; i < full; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[p++] = ALPHABET[bits >>> 18];
+            dst[p++] = ALPHABET[(bits >>> 12) & 0x3F];
+            dst[p++] = ALPHABET[(bits >>> 6) & 0x3F];
+            dst[p++] = ALPHABET[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[p++] = ALPHABET[bits >>> 18];
+            dst[p++] = ALPHABET[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[p++] = ALPHABET[bits >>> 18];
+            dst[p++] = ALPHABET[(bits >>> 12) & 0x3F];
+            dst[p++] = ALPHABET[(bits >>> 6) & 0x3F];
+        }
+        return p;
+    }
+
+    // base64url 디코딩 (패딩 없음), 디코딩한 바이트 수 반환 (잘못된 입력이면 -1)
+    private static int decode(String src, int start, int end, byte[] dst) {
+        if ((end - start) % 4 == 1) {
+            return -1;
+        }
+        int p = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            char c = src.charAt(i);
+            int value = c < 0x80 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                dst[p++] = (byte) (bits >> 16);
+                dst[p++] = (byte) (bits >> 8);
+                dst[p++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 2) {
+            dst[p++] = (byte) (bits >> 4);
+        } else if (count == 3) {
+            dst[p++] = (byte) (bits >> 10);
+            dst[p++] = (byte) (bits >> 2);
+        }
+        return p;
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 재사용하는 Mac과 작업 버퍼
+    private final class Scratch {
+
+        private final Mac mac = newMac();
+        private final byte[] signature = new byte[signatureLength];
+        private final byte[] encodedSignature = new byte[encodedLength(signatureLength)];
+        private final PayloadReader reader = new PayloadReader();
+        private byte[] payload = new byte[512];
+        private byte[] output = new byte[1024];
+
+        private byte[] payload(int capacity) {
+            if (payload.length < capacity) {
+                payload = new byte[Math.max(capacity, payload.length * 2)];
+            }
+            return payload;
+        }
+
+        private byte[] output(int capacity) {
+            if (output.length < capacity) {
+                output = new byte[Math.max(capacity, output.length * 2)];
+            }
+            return output;
+        }
+    }
+
+    /**
+     * 고정 형식 페이로드에서 필드를 바로 추출 (Jackson이 만드는 공백 없는 JSON만 처리)
+     * 모르는 클레임, 중복 클레임, 이스케이프 문자열이 있으면 null
+     */
+    private static final class PayloadReader {
+
+        private byte[] buf;
+        private int pos;
+        private int limit;
+
+        private VerifiedToken read(String token, byte[] payload, int length, long nowMillis) {
+            this.buf = payload;
+            this.pos = 0;
+            this.limit = length;
+
+            String id = null;
+            String sessionId = null;
+            String email = null;
+            String name = null;
+            String provider = null;
+            String role = null;
+            TokenType type = null;
+            long userId = -1;
+            long issuedAt = -1;
+            long issuedAtMillis = -1;
+            long expiresAt = -1;
+
+            if (!consume('{')) {
+                return null;
+            }
+            boolean first = true;
+            while (!consume('}')) {
+                if (!first && !consume(',')) {
+                    return null;
+                }
+                first = false;
+                if (!consume('"')) {
+                    return null;
+                }
+                int keyStart = pos;
+                int keyEnd = skipString();
+                if (keyEnd < 0 || !consume(':')) {
+                    return null;
+                }
+                if (matches(keyStart, keyEnd, KEY_JTI) && id == null) {
+                    id = readString();
+                    if (id == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_SUB) && userId < 0) {
+                    if (!consume('"') || (userId = readNumber()) < 0 || !consume('"')) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_SID) && sessionId == null) {
+                    if ((sessionId = readString()) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_EMAIL) && email == null) {
+                    if ((email = readString()) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_NAME) && name == null) {
+                    if ((name = readString()) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_PROVIDER) && provider == null) {
+                    if ((provider = readString()) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_ROLE) && role == null) {
+                    if ((role = readString()) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_TYPE) && type == null) {
+                    if ((type = TokenType.from(readString())) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_TYPE_CODE) && type == null) {
+                    // COMPACT 프로필 토큰 ("t":"a"/"r")
+                    if ((type = TokenType.fromCode(readString())) == null) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_IAT) && issuedAt < 0) {
+                    if ((issuedAt = readNumber()) < 0) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_IAT_MS) && issuedAtMillis < 0) {
+                    if ((issuedAtMillis = readNumber()) < 0) {
+                        return null;
+                    }
+                } else if (matches(keyStart, keyEnd, KEY_EXP) && expiresAt < 0) {
+                    if ((expiresAt = readNumber()) < 0) {
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            }
+            if (pos != limit || userId < 0 || expiresAt < 0) {
+                return null;
+            }
+            // jjwt와 같은 기준: now > exp면 만료
+            if (nowMillis > expiresAt * 1000) {
+                return null;
+            }
+
+            Role resolvedRole = Role.USER;
+            if (role != null) {
+                try {
+                    resolvedRole = Role.valueOf(role);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            return new VerifiedToken(token, id, userId, sessionId, email, name, provider, resolvedRole, type,
+                    issuedAt >= 0 ? VerifiedToken.issuedAt(issuedAt, issuedAtMillis >= 0 ? issuedAtMillis : null) : null,
+                    Instant.ofEpochSecond(expiresAt));
+        }
+
+        private boolean consume(char expected) {
+            if (pos < limit && buf[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        // 여는 따옴표 다음부터 닫는 따옴표까지 건너뛰고 닫는 따옴표 위치 반환 (이스케이프가 있으면 -1)
+        private int skipString() {
+            while (pos < limit) {
+                byte b = buf[pos];
+                if (b == '"') {
+                    return pos++;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            int end = skipString();
+            if (end < 0 || end == start) {
+                return null;
+            }
+            return new String(buf, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        // 0 이상의 정수 (선행 0, 부호, 소수, 오버플로는 처리하지 않음)
+        private long readNumber() {
+            int start = pos;
+            long value = 0;
+            while (pos < limit && buf[pos] >= '0' && buf[pos] <= '9') {
+                if (pos - start >= 18) {
+                    return -1;
+                }
+                value = value * 10 + (buf[pos++] - '0');
+            }
+            if (pos == start || (buf[start] == '0' && pos - start > 1)) {
+                return -1;
+            }
+            return value;
+        }
+
+        private boolean matches(int start, int end, byte[] key) {
+            if (end - start != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (buf[start + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package com.cotato.backend.common.jwt;
 
-import com.cotato.backend.domain.user.entity.User;
-import com.cotato.backend.domain.user.repository.UserRepository;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -17,16 +17,40 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String REACTIVE_AUTH_PREFIX = "/api/reactive/auth/";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
+
+    @Value("${jwt.authentication-mode:entity}")
+    private AuthenticationMode authenticationMode;
+
+    @Value("${jwt.claim-profile:full}")
+    private ClaimProfile claimProfile;
+
+    // COMPACT 프로필 토큰에는 프로필 클레임이 없어 claims 모드여도 매 요청 캐시/DB 조회가 일어나므로 시작 시 거부
+    @PostConstruct
+    void checkConfiguration() {
+        if (authenticationMode == AuthenticationMode.CLAIMS && claimProfile == ClaimProfile.COMPACT) {
+            throw new IllegalStateException(
+                    "jwt.authentication-mode=claims는 jwt.claim-profile=full과 함께 사용해야 합니다. "
+                            + "(compact 토큰에는 email/name/provider 클레임이 없어 요청마다 사용자 조회가 필요)");
+        }
+    }
+
+    // 리액티브 인증 API는 토큰 검증·폐기 확인을 직접 논블로킹으로 처리 (필터의 동기 Redis 조회 생략)
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(REACTIVE_AUTH_PREFIX);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,30 +60,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request); // Request Header에서 JWT 토큰 추출
 
             if (StringUtils.hasText(jwt)) {
-                // 블랙리스트 확인 (로그아웃된 토큰인지)
-                if (tokenBlacklistService.isBlacklisted(jwt)) {
+                // 서명·만료·타입을 한 번만 검증하고, 결과를 컨트롤러가 재사용하도록 보관
+                VerifiedToken verifiedToken = jwtTokenProvider.verify(jwt).orElse(null);
+
+                if (verifiedToken == null) {
+                    log.debug("유효하지 않은 JWT 토큰: {}", request.getRequestURI());
+                } else if (tokenBlacklistService.isBlacklisted(verifiedToken)) {
+                    // 블랙리스트 확인 (로그아웃된 토큰인지) - 검증된 토큰만 Redis/미러 조회
                     log.debug("블랙리스트에 등록된 토큰: {}", request.getRequestURI());
-                } else if (jwtTokenProvider.validateToken(jwt)) {
-                    // Access Token인지 확인
-                    if (jwtTokenProvider.isAccessToken(jwt)) {
-                        Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                        User user = userRepository.findById(userId).orElse(null);
+                } else if (revocationEpochService.isRevoked(verifiedToken)) {
+                    log.debug("일괄 폐기 시각 이전에 발급된 토큰: {}", request.getRequestURI());
+                } else {
+                    // 폐기 확인까지 통과한 토큰만 보관 (컨트롤러는 이 값이 있으면 유효한 토큰으로 본다)
+                    request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verifiedToken);
+
+                    if (verifiedToken.isAccessToken()) {
+                        UserPrincipal principal = resolvePrincipal(verifiedToken, request);
 
-                        if (user != null) {
+                        if (principal != null) {
                             UsernamePasswordAuthenticationToken authentication =
-                                    new UsernamePasswordAuthenticationToken(
-                                            user,
-                                            null,
-                                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                                    );
+                                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                             SecurityContextHolder.getContext().setAuthentication(authentication);
                         }
                     } else {
                         log.debug("Access Token이 아닌 토큰으로 인증 시도: {}", request.getRequestURI());
                     }
-                } else {
-                    log.debug("유효하지 않은 JWT 토큰: {}", request.getRequestURI());
                 }
             }
         } catch (Exception ex) {
@@ -69,6 +95,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // claims 모드면 토큰 클레임으로, 아니면 (또는 이전 형식 토큰이면) 사용자 캐시/DB 조회로 principal 생성
+    // 저장소에서 읽은 principal은 컨트롤러가 다시 조회하지 않도록 request attribute로 보관
+    private UserPrincipal resolvePrincipal(VerifiedToken verifiedToken, HttpServletRequest request) {
+        if (authenticationMode == AuthenticationMode.CLAIMS) {
+            UserPrincipal principal = verifiedToken.toPrincipal();
+            if (principal != null) {
+                return principal;
+            }
+        }
+        UserPrincipal principal = userPrincipalCache.get(verifiedToken.getUserId()).orElse(null);
+        if (principal != null) {
+            request.setAttribute(UserPrincipal.REQUEST_ATTRIBUTE, principal);
+        }
+        return principal;
+    }
+
     // Request Header에서 JWT 토큰 추출
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
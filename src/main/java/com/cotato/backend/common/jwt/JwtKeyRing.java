@@ -0,0 +1,287 @@
+package com.cotato.backend.common.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JWT 서명 키 집합 (jwt.signing.algorithm=ES256일 때 사용)
+ * - jwt.signing.key-dir의 {kid}.pem 파일: PUBLIC KEY 블록(필수) + PRIVATE KEY 블록(서명 키만)
+ * - 개인키가 있는 kid 중 사전순으로 가장 큰 kid가 현재 서명 키, 나머지 공개키는 검증 전용
+ *   → 새 키 파일 추가로 교체, 이전 키는 발급 토큰이 모두 만료된 뒤 공개키만 남기거나 삭제
+ * - 주기적으로 디렉터리를 다시 읽어 재시작 없이 교체 (jwt.signing.reload-interval-ms)
+ * - 검증 키는 kid → 공개키 맵으로 O(1) 조회, /.well-known/jwks.json으로 공개
+ * - 갱신으로 제거된 kid는 onKeysRemoved 리스너에 알림 (검증 캐시 무효화)
+ * - ES256 전환 전 HS* 토큰은 jwt.signing.accept-legacy-hs=true이고 전환 시각(switched-at)이 설정된 경우에만 허용
+ * - key-dir 미설정 시 임시 키는 local/test 프로필에서만 생성, 그 외에는 기동 실패 (노드마다 다른 키로 서명하지 않도록)
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    public static final String HS256 = "HS256";
+    public static final String ES256 = "ES256";
+
+    private final String algorithm;
+    private final String keyDir;
+    private final boolean acceptLegacyHs;
+    private final Instant switchedAt; // ES256 전환 시각 (이전 HS* 토큰 허용 시에만 사용)
+    private final boolean allowEphemeralKey; // key-dir 없이 임시 키 생성 허용 (local/test 프로필, 벤치마크/테스트)
+    private volatile KeySet keySet;
+    private final List<Consumer<Set<String>>> removalListeners = new CopyOnWriteArrayList<>();
+
+    // 이전 HS* 토큰을 허용하지 않는 구성 (벤치마크/테스트용)
+    public JwtKeyRing(String algorithm, String keyDir) {
+        this(algorithm, keyDir, false, "");
+    }
+
+    // 벤치마크/테스트용 (key-dir가 없으면 임시 키)
+    public JwtKeyRing(String algorithm, String keyDir, boolean acceptLegacyHs, String switchedAt) {
+        this(algorithm, keyDir, acceptLegacyHs, switchedAt, true);
+    }
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+            @Value("${jwt.signing.key-dir:}") String keyDir,
+            @Value("${jwt.signing.accept-legacy-hs:false}") boolean acceptLegacyHs,
+            @Value("${jwt.signing.switched-at:}") String switchedAt,
+            Environment environment) {
+        this(algorithm, keyDir, acceptLegacyHs, switchedAt, environment.acceptsProfiles(Profiles.of("local", "test")));
+    }
+
+    private JwtKeyRing(String algorithm, String keyDir, boolean acceptLegacyHs, String switchedAt,
+                       boolean allowEphemeralKey) {
+        if (!HS256.equals(algorithm) && !ES256.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 서명 알고리즘: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.keyDir = keyDir;
+        this.allowEphemeralKey = allowEphemeralKey;
+        this.acceptLegacyHs = ES256.equals(algorithm) && acceptLegacyHs;
+        if (this.acceptLegacyHs && !StringUtils.hasText(switchedAt)) {
+            // 기한 없이 공유 비밀키 토큰을 받으면 비밀키 보유자가 계속 토큰을 만들 수 있음
+            throw new IllegalStateException("jwt.signing.accept-legacy-hs=true에는 jwt.signing.switched-at(ISO-8601)이 필요합니다.");
+        }
+        this.switchedAt = this.acceptLegacyHs ? Instant.parse(switchedAt) : null;
+        this.keySet = ES256.equals(algorithm) ? loadKeySet() : KeySet.EMPTY;
+        if (this.acceptLegacyHs) {
+            log.info("ES256 전환 전 HS* 토큰 허용 - 전환 시각: {}", this.switchedAt);
+        }
+    }
+
+    public boolean isAsymmetric() {
+        return ES256.equals(algorithm);
+    }
+
+    // HS* 서명 토큰을 공유 비밀키로 검증할지 (HS256 모드, 또는 ES256 모드에서 이전 토큰 허용 설정)
+    public boolean acceptsHs() {
+        return !isAsymmetric() || acceptLegacyHs;
+    }
+
+    // ES256 모드에서 HS* 토큰을 허용할 때의 전환 시각 (그 외에는 null)
+    public Instant legacyHsSwitchedAt() {
+        return switchedAt;
+    }
+
+    // 현재 서명 키 (HS256 모드면 null)
+    public SigningKey signingKey() {
+        return keySet.signingKey;
+    }
+
+    // kid로 검증용 공개키 조회 (없으면 null)
+    public PublicKey verificationKey(String kid) {
+        return kid != null ? keySet.verificationKeys.get(kid) : null;
+    }
+
+    // 키 갱신으로 검증 키 집합에서 빠진 kid를 받을 리스너 등록
+    public void onKeysRemoved(Consumer<Set<String>> listener) {
+        removalListeners.add(listener);
+    }
+
+    // JWKS 응답 본문 {"keys": [...]}
+    public Map<String, Object> jwks() {
+        return keySet.jwks;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval-ms:60000}")
+    public void reload() {
+        if (!isAsymmetric() || !StringUtils.hasText(keyDir)) {
+            return;
+        }
+        try {
+            KeySet reloaded = loadKeySet();
+            if (!reloaded.verificationKeys.keySet().equals(keySet.verificationKeys.keySet())
+                    || !reloaded.signingKey.kid().equals(keySet.signingKey.kid())) {
+                log.info("JWT 서명 키 갱신 - 서명 kid: {}, 검증 kid: {}",
+                        reloaded.signingKey.kid(), reloaded.verificationKeys.keySet());
+            }
+            Set<String> removed = new HashSet<>(keySet.verificationKeys.keySet());
+            removed.removeAll(reloaded.verificationKeys.keySet());
+            keySet = reloaded;
+            if (!removed.isEmpty()) {
+                log.warn("JWT 검증 키 제거 - kid: {}", removed);
+                removalListeners.forEach(listener -> listener.accept(Set.copyOf(removed)));
+            }
+        } catch (Exception e) {
+            // 잘못된 키 파일이 배포돼도 기존 키로 계속 동작
+            log.error("JWT 서명 키 갱신 실패 - 기존 키 유지", e);
+        }
+    }
+
+    private KeySet loadKeySet() {
+        if (!StringUtils.hasText(keyDir)) {
+            if (!allowEphemeralKey) {
+                // 노드마다 다른 임시 키로 서명하면 다른 노드가 발급한 토큰을 검증할 수 없음
+                throw new IllegalStateException("jwt.signing.algorithm=ES256에는 jwt.signing.key-dir이 필요합니다."
+                        + " (임시 키는 local/test 프로필에서만 생성)");
+            }
+            log.warn("jwt.signing.key-dir 미설정 - 임시 ES256 키 생성 (재시작 시 기존 토큰 무효, 운영 환경 사용 금지)");
+            return ephemeralKeySet();
+        }
+
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        TreeMap<String, PrivateKey> privateKeys = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Path.of(keyDir), "*.pem")) {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".pem".length());
+                Map<String, byte[]> blocks = readPemBlocks(Files.readString(file, StandardCharsets.US_ASCII));
+
+                byte[] publicDer = blocks.get("PUBLIC KEY");
+                if (publicDer == null) {
+                    throw new IllegalStateException("PUBLIC KEY 블록이 없습니다: " + file);
+                }
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(publicDer));
+                if (((ECPublicKey) publicKey).getParams().getCurve().getField().getFieldSize() != 256) {
+                    throw new IllegalStateException("ES256에는 P-256 키가 필요합니다: " + file);
+                }
+                publicKeys.put(kid, publicKey);
+
+                byte[] privateDer = blocks.get("PRIVATE KEY");
+                if (privateDer != null) {
+                    privateKeys.put(kid, keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateDer)));
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다: " + keyDir, e);
+        }
+
+        if (privateKeys.isEmpty()) {
+            throw new IllegalStateException("서명용 개인키가 없습니다: " + keyDir);
+        }
+        String activeKid = privateKeys.lastKey();
+        return KeySet.of(new SigningKey(activeKid, privateKeys.get(activeKid)), publicKeys);
+    }
+
+    private static KeySet ephemeralKeySet() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            String kid = "ephemeral-" + System.currentTimeMillis();
+            return KeySet.of(new SigningKey(kid, keyPair.getPrivate()), Map.of(kid, keyPair.getPublic()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("임시 ES256 키 생성 실패", e);
+        }
+    }
+
+    // PEM 블록 타입 → DER
+    private static Map<String, byte[]> readPemBlocks(String pem) {
+        Map<String, byte[]> blocks = new LinkedHashMap<>();
+        String type = null;
+        StringBuilder body = new StringBuilder();
+        for (String line : pem.split("\r?\n")) {
+            line = line.trim();
+            if (line.startsWith("-----BEGIN ")) {
+                type = line.substring("-----BEGIN ".length(), line.length() - "-----".length());
+                body.setLength(0);
+            } else if (line.startsWith("-----END ") && type != null) {
+                blocks.put(type, Base64.getDecoder().decode(body.toString()));
+                type = null;
+            } else if (type != null) {
+                body.append(line);
+            }
+        }
+        return blocks;
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private static final class KeySet {
+
+        static final KeySet EMPTY = new KeySet(null, Map.of(), Map.of("keys", List.of()));
+
+        final SigningKey signingKey;
+        final Map<String, PublicKey> verificationKeys;
+        final Map<String, Object> jwks;
+
+        private KeySet(SigningKey signingKey, Map<String, PublicKey> verificationKeys, Map<String, Object> jwks) {
+            this.signingKey = signingKey;
+            this.verificationKeys = verificationKeys;
+            this.jwks = jwks;
+        }
+
+        static KeySet of(SigningKey signingKey, Map<String, PublicKey> publicKeys) {
+            List<Map<String, Object>> keys = new ArrayList<>();
+            publicKeys.forEach((kid, key) -> keys.add(toJwk(kid, (ECPublicKey) key)));
+            return new KeySet(signingKey, Map.copyOf(publicKeys), Map.of("keys", List.copyOf(keys)));
+        }
+
+        // RFC 7518 EC 공개키 JWK (P-256 좌표는 32바이트 고정 길이)
+        private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", ES256);
+            jwk.put("x", encodeCoordinate(key.getW().getAffineX()));
+            jwk.put("y", encodeCoordinate(key.getW().getAffineY()));
+            return jwk;
+        }
+
+        private static String encodeCoordinate(BigInteger value) {
+            byte[] bytes = value.toByteArray();
+            byte[] fixed = new byte[32];
+            int length = Math.min(bytes.length, 32);
+            System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+        }
+    }
+}
@@ -1,101 +1,240 @@
 package com.cotato.backend.common.jwt;
 
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser; // 불변·스레드 안전 → 요청마다 새로 만들지 않고 재사용
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final CompactJwtCodec compactJwtCodec; // jwt.compact-codec.enabled=false면 null
+    private final ClaimProfile claimProfile;
+    private final UserPrincipalCache userPrincipalCache; // COMPACT 프로필 토큰의 이메일 조회
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.compact-codec.enabled:false}") boolean compactCodecEnabled,
+            @Value("${jwt.claim-profile:full}") ClaimProfile claimProfile,
+            VerifiedTokenCache verifiedTokenCache,
+            JwtKeyRing jwtKeyRing,
+            UserPrincipalCache userPrincipalCache) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtKeyRing = jwtKeyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new SigningKeyLocator())
+                .build();
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.verifiedTokenCache = verifiedTokenCache;
+        // 교체·유출로 제거된 kid로 서명된 토큰은 캐시에 남아 있어도 더 이상 통과시키지 않음
+        jwtKeyRing.onKeysRemoved(verifiedTokenCache::invalidateKeys);
+        // ES256 모드에서는 HMAC 코덱을 만들지 않음 (이전 HS* 토큰도 jjwt 경로에서 전환 기한 검사)
+        boolean useCodec = compactCodecEnabled && !jwtKeyRing.isAsymmetric();
+        this.compactJwtCodec = useCodec ? new CompactJwtCodec(secretKey) : null;
+        this.claimProfile = claimProfile;
+        this.userPrincipalCache = userPrincipalCache;
+        if (useCodec) {
+            log.info("고정 클레임 JWT 코덱 활성화 (HS* 토큰)");
+        } else if (compactCodecEnabled) {
+            log.warn("ES256 서명 모드에서는 고정 클레임 JWT 코덱을 사용하지 않습니다.");
+        }
     }
 
-    // Access Token 생성
-    public String createAccessToken(Long userId, String email) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + accessTokenValidity);
+    // Access Token 생성 (FULL: claims 인증 모드에서 DB 조회 없이 principal을 만들 수 있도록 프로필 포함)
+    public String createAccessToken(UserPrincipal principal) {
+        long now = System.currentTimeMillis();
+        long validity = now + accessTokenValidity;
+        String tokenId = newTokenId();
 
-        return Jwts.builder()
-                .subject(String.valueOf(userId))
-                .claim("email", email)
-                .claim("type", "access")
-                .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
-                .compact();
+        if (claimProfile == ClaimProfile.COMPACT) {
+            JwtBuilder builder = Jwts.builder()
+                    .id(tokenId)
+                    .subject(String.valueOf(principal.getId()));
+            if (principal.getRole() != Role.USER) {
+                builder.claim("role", principal.getRole().name());
+            }
+            builder.claim("t", TokenType.ACCESS.getCode())
+                    .issuedAt(new Date(now))
+                    .claim(VerifiedToken.ISSUED_AT_MILLIS, now)
+                    .expiration(new Date(validity));
+            return sign(builder);
+        }
+
+        if (useCompactCodec()) {
+            String token = compactJwtCodec.encodeAccessToken(tokenId, principal.getId(), principal.getEmail(),
+                    principal.getName(), principal.getProvider(), principal.getRole().name(), now, validity);
+            if (token != null) {
+                return token;
+            }
+        }
+
+        JwtBuilder builder = Jwts.builder()
+                .id(tokenId)
+                .subject(String.valueOf(principal.getId()))
+                .claim("email", principal.getEmail())
+                .claim("name", principal.getName())
+                .claim("provider", principal.getProvider())
+                .claim("role", principal.getRole().name())
+                .claim("type", TokenType.ACCESS.getValue())
+                .issuedAt(new Date(now))
+                .claim(VerifiedToken.ISSUED_AT_MILLIS, now)
+                .expiration(new Date(validity));
+
+        return sign(builder);
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(Long userId) {
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + refreshTokenValidity);
+    // Refresh Token 생성 (sid: 기기/세션 식별자, 로테이션해도 유지)
+    public String createRefreshToken(Long userId, String sessionId) {
+        long now = System.currentTimeMillis();
+        long validity = now + refreshTokenValidity;
+
+        if (useCompactCodec()) {
+            String token = compactJwtCodec.encodeRefreshToken(userId, sessionId, now, validity);
+            if (token != null) {
+                return token;
+            }
+        }
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(String.valueOf(userId))
-                .claim("type", "refresh")
-                .issuedAt(now)
-                .expiration(validity)
-                .signWith(secretKey)
+                .claim("sid", sessionId);
+        if (claimProfile == ClaimProfile.COMPACT) {
+            builder.claim("t", TokenType.REFRESH.getCode());
+        } else {
+            builder.claim("type", TokenType.REFRESH.getValue());
+        }
+        builder.issuedAt(new Date(now))
+                .expiration(new Date(validity));
+
+        return sign(builder);
+    }
+
+    // 고정 클레임 코덱은 공유 비밀키(HS*) 서명의 FULL 프로필 발급에만 사용 (검증은 두 프로필 모두 처리)
+    private boolean useCompactCodec() {
+        return compactJwtCodec != null && claimProfile == ClaimProfile.FULL;
+    }
+
+    // ES256 모드: 현재 키의 kid를 헤더에 넣고 개인키로 서명, HS256 모드: 공유 비밀키로 서명
+    private String sign(JwtBuilder builder) {
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.signingKey();
+        if (signingKey == null) {
+            return builder.signWith(secretKey).compact();
+        }
+        return builder.header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
                 .compact();
     }
 
+    // jti: 128비트 난수의 base64url (22자) - 블랙리스트에 토큰 원문 대신 저장
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return ID_ENCODER.encodeToString(bytes);
+    }
+
     // 토큰에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
         Claims claims = getClaims(token);
         return Long.parseLong(claims.getSubject());
     }
 
-    // 토큰에서 이메일 추출
+    // 토큰에서 이메일 추출 (COMPACT 프로필 토큰은 사용자 캐시/DB 조회)
     public String getEmailFromToken(String token) {
         Claims claims = getClaims(token);
-        return claims.get("email", String.class);
+        String email = claims.get("email", String.class);
+        return email != null ? email : findEmail(Long.parseLong(claims.getSubject()));
+    }
+
+    // 검증된 토큰의 이메일 (클레임에 없으면 사용자 캐시/DB 조회, 사용자가 없으면 null)
+    public String getEmail(VerifiedToken verifiedToken) {
+        String email = verifiedToken.getEmail();
+        return email != null ? email : findEmail(verifiedToken.getUserId());
+    }
+
+    private String findEmail(Long userId) {
+        return userPrincipalCache.get(userId).map(UserPrincipal::getEmail).orElse(null);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명·만료를 검증하고 클레임 뷰를 반환
+     * 검증 실패 시 Optional.empty()
+     * jwt.cache.enabled=true면 검증 결과를 토큰 만료 시각까지 캐시
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        return Optional.ofNullable(verifiedTokenCache.get(token, this::parse));
+    }
+
+    // 검증 + 토큰 타입 확인을 한 번에 수행
+    public Optional<VerifiedToken> verify(String token, TokenType expectedType) {
+        return verify(token).filter(verified -> verified.getType() == expectedType);
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // 서명·만료 검증 후 클레임 뷰 생성 (실패 시 null)
+    private VerifiedToken parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            log.warn("JWT 토큰이 비어있습니다.");
+            return null;
+        }
+        // 코덱이 처리할 수 없거나 유효하지 않은 토큰은 jjwt로 다시 검증해 원인을 남김
+        if (compactJwtCodec != null) {
+            VerifiedToken verified = compactJwtCodec.decode(token, System.currentTimeMillis());
+            if (verified != null) {
+                return verified;
+            }
+        }
         try {
-            getClaims(token);
-            return true;
+            Jws<Claims> jws = parseSigned(token);
+            return VerifiedToken.of(token, jws.getPayload(), jws.getHeader().getKeyId());
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다.");
-            return false;
         } catch (UnsupportedJwtException e) {
             log.warn("지원되지 않는 JWT 토큰입니다.");
-            return false;
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 JWT 토큰입니다.");
-            return false;
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 비어있습니다.");
-            return false;
+        } catch (RequiredTypeException | IllegalArgumentException e) {
+            // 서명은 유효하지만 클레임을 변환할 수 없음 (숫자가 아닌 sub, 알 수 없는 role, 잘못된 타입 등)
+            log.warn("JWT 클레임이 올바르지 않습니다: {}", e.getMessage());
         } catch (Exception e) {
             log.error("JWT 토큰 검증 중 오류 발생: {}", e.getMessage());
-            return false;
         }
+        return null;
     }
 
-    // 토큰 타입 확인 (access 또는 refresh)
+    // 토큰 타입 확인 (access 또는 refresh, COMPACT 프로필의 "t" 코드도 같은 값으로 변환)
     public String getTokenType(String token) {
         try {
-            Claims claims = getClaims(token);
-            return claims.get("type", String.class);
+            TokenType type = VerifiedToken.typeOf(getClaims(token));
+            return type != null ? type.getValue() : null;
         } catch (Exception e) {
             return null;
         }
@@ -103,12 +242,12 @@ public class JwtTokenProvider {
 
     // Refresh Token 여부 확인
     public boolean isRefreshToken(String token) {
-        return "refresh".equals(getTokenType(token));
+        return TokenType.REFRESH.getValue().equals(getTokenType(token));
     }
 
     // Access Token 여부 확인
     public boolean isAccessToken(String token) {
-        return "access".equals(getTokenType(token));
+        return TokenType.ACCESS.getValue().equals(getTokenType(token));
     }
 
     // 토큰 만료까지 남은 시간 (밀리초)
@@ -125,10 +264,59 @@ public class JwtTokenProvider {
 
     // Claims 추출
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseSigned(token).getPayload();
+    }
+
+    // 서명 검증 (ES256 모드의 이전 HS* 토큰은 전환 기한도 확인)
+    private Jws<Claims> parseSigned(String token) {
+        Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+        if (jwtKeyRing.isAsymmetric() && isHs(jws.getHeader().getAlgorithm())) {
+            checkLegacyHs(jws.getPayload());
+        }
+        return jws;
+    }
+
+    /**
+     * ES256 전환 전 HS* 토큰 허용 범위
+     * - 발급 시각(iat)이 전환 시각 + Access Token 유효기간 이후면 거부 (배포 중 구 노드가 발급한 토큰까지만 허용)
+     * - 유효기간(exp - iat)이 Refresh Token 유효기간보다 길면 거부 (비밀키로 임의의 장기 토큰 생성 차단)
+     * → 전환 후 두 유효기간이 지나면 HS* 토큰은 모두 거부된다.
+     */
+    private void checkLegacyHs(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        if (issuedAt == null || expiration == null) {
+            throw new UnsupportedJwtException("발급·만료 시각이 없는 HS* 토큰입니다.");
+        }
+        long deadline = jwtKeyRing.legacyHsSwitchedAt().toEpochMilli() + accessTokenValidity;
+        if (issuedAt.getTime() > deadline) {
+            throw new UnsupportedJwtException("ES256 전환 이후 발급된 HS* 토큰입니다.");
+        }
+        if (expiration.getTime() - issuedAt.getTime() > refreshTokenValidity) {
+            throw new UnsupportedJwtException("허용 유효기간을 넘는 HS* 토큰입니다.");
+        }
+    }
+
+    private static boolean isHs(String algorithm) {
+        return algorithm != null && algorithm.startsWith("HS");
+    }
+
+    /**
+     * 서명 검증 키 선택
+     * - HS* 헤더: 공유 비밀키 (HS256 모드, 또는 ES256 모드에서 jwt.signing.accept-legacy-hs=true일 때만)
+     * - 그 외: kid로 키 집합에서 공개키 조회 (없으면 검증 실패)
+     */
+    private class SigningKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            if (isHs(header.getAlgorithm())) {
+                if (!jwtKeyRing.acceptsHs()) {
+                    throw new UnsupportedJwtException("ES256 서명 모드에서는 HS* 토큰을 허용하지 않습니다.");
+                }
+                return secretKey;
+            }
+            return jwtKeyRing.verificationKey(header.getKeyId());
+        }
     }
 }
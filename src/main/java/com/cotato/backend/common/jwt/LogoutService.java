@@ -0,0 +1,68 @@
+package com.cotato.backend.common.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * 로그아웃 쓰기 묶음
+ * - 한 기기 로그아웃: Access Token 블랙리스트 + Refresh Token 세션 삭제를 하나의 파이프라인으로 전송
+ * - 여러 사용자 강제 로그아웃: 사용자별 폐기 시각 갱신 (1000명 단위 파이프라인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogoutService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
+    private final RevocationEpochService revocationEpochService;
+    private final RedisGuard redisGuard;
+
+    /**
+     * 한 기기 로그아웃 (Redis 왕복 1회)
+     * @param accessToken 검증된 Access Token (없으면 null)
+     * @param refreshToken 검증된 Refresh Token (없으면 null)
+     */
+    public void logout(VerifiedToken accessToken, VerifiedToken refreshToken) {
+        if (accessToken == null && refreshToken == null) {
+            return;
+        }
+
+        redisGuard.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                if (accessToken != null) {
+                    tokenBlacklistService.addToBlacklist(ops, accessToken);
+                }
+                if (refreshToken != null) {
+                    refreshTokenService.delete(ops, refreshToken.getUserId(), refreshToken.getSessionId());
+                }
+                return null;
+            }
+        }));
+
+        if (accessToken != null) {
+            tokenBlacklistService.publish(accessToken);
+        }
+        log.info("로그아웃 처리 완료 - userId: {}",
+                accessToken != null ? accessToken.getUserId() : refreshToken.getUserId());
+    }
+
+    /**
+     * 여러 사용자 강제 로그아웃 (관리자)
+     * 모든 기기의 Access/Refresh Token을 폐기하며, 토큰 단위 쓰기 없이 사용자당 epoch 1개 + 세션 키 삭제
+     */
+    public void logoutAll(Collection<Long> userIds) {
+        revocationEpochService.revokeAll(userIds);
+    }
+}
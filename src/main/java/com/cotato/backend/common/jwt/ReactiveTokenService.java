@@ -0,0 +1,122 @@
+package com.cotato.backend.common.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * RefreshTokenService·TokenBlacklistService·RevocationEpochService의 리액티브 버전 (app.reactive-auth.enabled=true)
+ * - 키 구조와 Lua 스크립트는 동기 서비스와 같으므로 두 경로가 같은 세션·블랙리스트를 공유
+ * - 로컬 미러·epoch 캐시에 답이 있으면 Redis를 호출하지 않고, 없을 때만 Lettuce 리액티브 명령으로 조회
+ * - 장애 시 동작(대체 결과, 503)은 같은 RedisGuard 차단기를 따른다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.reactive-auth.enabled", havingValue = "true")
+public class ReactiveTokenService {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
+    private final RedisGuard redisGuard;
+    private final long refreshTokenValidity;
+    private final int maxSessionsPerUser;
+
+    public ReactiveTokenService(
+            ReactiveStringRedisTemplate redisTemplate,
+            TokenBlacklistService tokenBlacklistService,
+            RevocationEpochService revocationEpochService,
+            RedisGuard redisGuard,
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.refresh-session.max-per-user:10}") int maxSessionsPerUser) {
+        this.redisTemplate = redisTemplate;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.revocationEpochService = revocationEpochService;
+        this.redisGuard = redisGuard;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    // RefreshTokenService.save
+    public Mono<Void> save(Long userId, String sessionId, String refreshToken) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidity;
+        return redisGuard.call(redisTemplate.execute(RefreshTokenService.SAVE_SCRIPT,
+                        List.of(RefreshTokenService.SESSION_PREFIX + userId),
+                        List.of(sessionId, RefreshTokenService.entry(refreshToken, expiresAt), String.valueOf(expiresAt),
+                                String.valueOf(now), String.valueOf(maxSessionsPerUser)))
+                        .then())
+                .doOnSuccess(ignored -> log.info("Refresh Token Redis 저장 완료 - userId: {}", userId));
+    }
+
+    // RefreshTokenService.rotate
+    public Mono<Boolean> rotate(Long userId, String sessionId, String presented, String next) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidity;
+        return redisGuard.call(redisTemplate.execute(RefreshTokenService.ROTATE_SCRIPT,
+                        List.of(RefreshTokenService.SESSION_PREFIX + userId),
+                        List.of(sessionId, TokenDigest.sha256Base64(presented),
+                                RefreshTokenService.entry(next, expiresAt), String.valueOf(expiresAt), String.valueOf(now)))
+                        .next())
+                .map(Long.valueOf(1)::equals)
+                .defaultIfEmpty(false);
+    }
+
+    // RefreshTokenService.migrateLegacy
+    public Mono<Boolean> migrateLegacy(Long userId, String presented, String sessionId, String next) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidity;
+        return redisGuard.call(redisTemplate.execute(RefreshTokenService.MIGRATE_SCRIPT,
+                        List.of(RefreshTokenService.REFRESH_TOKEN_PREFIX + userId, RefreshTokenService.SESSION_PREFIX + userId),
+                        List.of(presented, sessionId, RefreshTokenService.entry(next, expiresAt),
+                                String.valueOf(expiresAt), String.valueOf(now)))
+                        .next())
+                .map(Long.valueOf(1)::equals)
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * 블랙리스트 또는 일괄 폐기 대상이면 true (필터의 isBlacklisted + isRevoked와 같은 판단)
+     * 두 조회가 모두 Redis로 가야 하면 동시에 보낸다.
+     */
+    public Mono<Boolean> isRevoked(VerifiedToken token) {
+        return Mono.zip(isBlacklisted(token), isRevokedByEpoch(token), Boolean::logicalOr);
+    }
+
+    private Mono<Boolean> isBlacklisted(VerifiedToken token) {
+        Boolean local = tokenBlacklistService.isBlacklistedLocally(token);
+        if (local != null) {
+            return Mono.just(local);
+        }
+        Mono<Boolean> lookup = token.getId() != null
+                ? redisTemplate.opsForSet().isMember(
+                        TokenBlacklistService.REVOKED_BUCKET_PREFIX + TokenBlacklistService.bucketOf(token.getExpiresAt()),
+                        token.getId())
+                : redisTemplate.hasKey(TokenBlacklistService.BLACKLIST_PREFIX + token.getToken());
+        return redisGuard.read(lookup.map(Boolean.TRUE::equals),
+                () -> tokenBlacklistService.isBlacklistedWhenUnavailable(token));
+    }
+
+    private Mono<Boolean> isRevokedByEpoch(VerifiedToken token) {
+        if (token.getIssuedAt() == null) {
+            return Mono.just(false);
+        }
+        Long userId = token.getUserId();
+        long issuedAt = token.getIssuedAt().toEpochMilli();
+        Long cached = revocationEpochService.cachedEpoch(userId);
+        if (cached != null) {
+            return Mono.just(issuedAt < cached);
+        }
+        Mono<Long> lookup = redisTemplate.opsForValue().get(RevocationEpochService.EPOCH_PREFIX + userId)
+                .map(RevocationEpochService::parseEpoch)
+                .defaultIfEmpty(0L)
+                .doOnNext(epoch -> revocationEpochService.rememberEpoch(userId, epoch));
+        return redisGuard.read(lookup, () -> revocationEpochService.fallbackEpoch(userId))
+                .map(epoch -> issuedAt < epoch);
+    }
+}
@@ -0,0 +1,215 @@
+package com.cotato.backend.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Redis 서버 지원 클라이언트 캐시 (RESP3 CLIENT TRACKING)
+ * - 전용 RESP3 연결로 읽은 키를 서버가 기억하고, 키가 바뀌면 같은 연결로 invalidate 푸시 메시지를 보낸다.
+ * - 읽기 결과는 Redis 키 단위로 보관, 무효화 메시지를 받으면 그 키에서 읽은 결과를 모두 제거
+ * - 연결이 끊기면 그동안의 무효화를 놓치므로 전체 비우고, 재연결 후 추적을 다시 켤 때까지 캐시 없이 조회
+ * 블랙리스트(SISMEMBER/EXISTS), 폐기 기준 시각(GET), 세션(HGET)처럼 읽기가 대부분인 키에 사용한다.
+ * 단일 노드(standalone) Redis 설정만 지원, Redis 6 이상 필요
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.redis.client-cache.enabled", havingValue = "true")
+public class RedisClientSideCache {
+
+    private static final Object NULL = new Object(); // 키/필드가 없다는 결과도 캐시
+
+    private final RedisClient client;
+    private final StatefulRedisConnection<String, String> connection;
+    // Redis 키 → (읽기 명령:인자 → 결과), 가중치 = 보관 중인 결과 수
+    private final Cache<String, ConcurrentMap<String, Object>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter invalidations;
+    private final Counter flushes;
+
+    private volatile boolean tracking = false;
+
+    @Autowired
+    public RedisClientSideCache(
+            RedisProperties redisProperties,
+            @Value("${app.redis.client-cache.maximum-weight:100000}") long maximumWeight,
+            MeterRegistry meterRegistry) {
+        this(toRedisUri(redisProperties), maximumWeight, meterRegistry);
+    }
+
+    // 로컬/테스트용 Redis에 직접 연결할 때 사용
+    public RedisClientSideCache(RedisURI redisUri, long maximumWeight, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String key, ConcurrentMap<String, Object> results) -> 1 + results.size())
+                .build();
+
+        FunctionCounter.builder("redis.client-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("redis.client-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("redis.client-cache.hit.ratio", this, RedisClientSideCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("redis.client-cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 Redis 키 수")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("redis.client-cache.invalidations")
+                .description("서버 무효화 메시지로 제거된 키 수")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("redis.client-cache.flushes")
+                .description("재연결/FLUSHALL로 전체를 비운 횟수")
+                .register(meterRegistry);
+
+        this.client = RedisClient.create(redisUri);
+        this.client.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+        this.client.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                tracking = false;
+                flush();
+            }
+
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                // 최초 연결은 생성자에서 처리, 재연결 시 서버의 추적 상태가 사라졌으므로 다시 켠다.
+                StatefulRedisConnection<String, String> current = RedisClientSideCache.this.connection;
+                if (current != null) {
+                    current.async().clientTracking(TrackingArgs.Builder.enabled())
+                            .thenRun(() -> tracking = true);
+                }
+            }
+        });
+
+        this.connection = client.connect();
+        this.connection.addListener(this::onPushMessage);
+        this.connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+        this.tracking = true;
+        log.info("Redis 클라이언트 캐시 활성화 - {}:{}", redisUri.getHost(), redisUri.getPort());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connection.close();
+        client.shutdown();
+    }
+
+    public boolean isMember(String key, String member) {
+        return Boolean.TRUE.equals(read(key, "sismember:" + member, () -> connection.sync().sismember(key, member)));
+    }
+
+    public boolean exists(String key) {
+        Long count = read(key, "exists", () -> connection.sync().exists(key));
+        return count != null && count > 0;
+    }
+
+    public String get(String key) {
+        return read(key, "get", () -> connection.sync().get(key));
+    }
+
+    public String hget(String key, String field) {
+        return read(key, "hget:" + field, () -> connection.sync().hget(key, field));
+    }
+
+    double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T read(String key, String command, Supplier<T> loader) {
+        if (!tracking) {
+            misses.increment();
+            return loader.get();
+        }
+        ConcurrentMap<String, Object> results = cache.asMap().computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        Object cached = results.get(command);
+        if (cached != null) {
+            hits.increment();
+            return cached == NULL ? null : (T) cached;
+        }
+
+        misses.increment();
+        T value = loader.get();
+        // 응답을 받는 사이 무효화되었으면(키 항목이 제거/교체됨) 저장하지 않는다.
+        if (tracking && cache.asMap().get(key) == results) {
+            results.put(command, value != null ? value : NULL);
+            cache.asMap().replace(key, results, results); // 가중치 재계산
+        }
+        return value;
+    }
+
+    // 서버 무효화 메시지: ["invalidate", [키...]], 키 목록이 null이면 전체 무효화 (FLUSHALL 등)
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (!(keys instanceof List<?> keyList)) {
+            flush();
+            return;
+        }
+        for (Object key : keyList) {
+            cache.invalidate(key.toString());
+            invalidations.increment();
+        }
+    }
+
+    private void flush() {
+        cache.invalidateAll();
+        flushes.increment();
+    }
+
+    private static RedisURI toRedisUri(RedisProperties properties) {
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(properties.getHost())
+                .withPort(properties.getPort())
+                .withDatabase(properties.getDatabase());
+        if (StringUtils.hasText(properties.getPassword())) {
+            if (StringUtils.hasText(properties.getUsername())) {
+                builder.withAuthentication(properties.getUsername(), properties.getPassword());
+            } else {
+                builder.withPassword(properties.getPassword().toCharArray());
+            }
+        }
+        if (properties.getTimeout() != null) {
+            builder.withTimeout(properties.getTimeout());
+        }
+        return builder.build();
+    }
+}
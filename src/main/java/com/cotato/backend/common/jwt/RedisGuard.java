@@ -0,0 +1,97 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.lettuce.core.RedisException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * 토큰 서비스의 Redis 호출 차단기 (resilience4j "redis" 인스턴스)
+ * - 명령 시간 제한(spring.data.redis.timeout)을 넘기거나 실패한 호출, 느린 호출 비율이 높으면 차단기가 열린다.
+ * - 열린 동안은 Redis를 호출하지 않고 즉시 대체 값 반환(읽기) 또는 503(쓰기) → 장애 중에도 요청 스레드가 묶이지 않음
+ * 상태는 /actuator/health의 circuitBreakers 항목과 resilience4j.circuitbreaker.* 지표로 확인
+ */
+@Slf4j
+@Component
+public class RedisGuard {
+
+    static final String CIRCUIT_BREAKER_NAME = "redis";
+
+    private final CircuitBreaker circuitBreaker;
+
+    public RedisGuard(CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    }
+
+    /**
+     * 대체 가능한 읽기 (블랙리스트·폐기 시각 확인)
+     * 실패하거나 차단기가 열려 있으면 fallback 결과 반환
+     */
+    public <T> T read(Supplier<T> call, Supplier<T> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(call);
+        } catch (CallNotPermittedException ex) {
+            return fallback.get();
+        } catch (DataAccessException | RedisException ex) {
+            log.warn("Redis 호출 실패, 대체 결과 사용: {}", ex.getMessage());
+            return fallback.get();
+        }
+    }
+
+    /**
+     * 대체 불가능한 호출 (로그인·갱신·로그아웃 쓰기)
+     * 실패하거나 차단기가 열려 있으면 503
+     */
+    public <T> T call(Supplier<T> call) {
+        try {
+            return circuitBreaker.executeSupplier(call);
+        } catch (CallNotPermittedException ex) {
+            throw new AppException(ErrorCode.REDIS_UNAVAILABLE);
+        } catch (DataAccessException | RedisException ex) {
+            log.error("Redis 호출 실패", ex);
+            throw new AppException(ErrorCode.REDIS_UNAVAILABLE);
+        }
+    }
+
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 리액티브 Redis 호출용 read (같은 차단기 인스턴스를 공유)
+    public <T> Mono<T> read(Mono<T> call, Supplier<T> fallback) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorResume(RedisGuard::isUnavailable, ex -> {
+                    if (!(ex instanceof CallNotPermittedException)) {
+                        log.warn("Redis 호출 실패, 대체 결과 사용: {}", ex.getMessage());
+                    }
+                    return Mono.fromSupplier(fallback);
+                });
+    }
+
+    // 리액티브 Redis 호출용 call
+    public <T> Mono<T> call(Mono<T> call) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RedisGuard::isUnavailable, ex -> {
+                    if (!(ex instanceof CallNotPermittedException)) {
+                        log.error("Redis 호출 실패", ex);
+                    }
+                    return new AppException(ErrorCode.REDIS_UNAVAILABLE);
+                });
+    }
+
+    private static boolean isUnavailable(Throwable ex) {
+        return ex instanceof CallNotPermittedException || ex instanceof DataAccessException || ex instanceof RedisException;
+    }
+}
@@ -3,48 +3,247 @@ package com.cotato.backend.common.jwt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+/**
+ * Refresh Token 화이트리스트 (기기/세션별)
+ * - 사용자당 Redis Hash 하나: "refresh-sessions:{userId}" → { sid: "{토큰 SHA-256 base64url}:{만료 epoch ms}" }
+ * - 토큰 원문 대신 고정 길이 다이제스트만 저장, 세션별 만료는 값에 기록하고 키 TTL은 가장 늦은 세션 만료 시각
+ * - 검증·로테이션은 이 Hash 하나만 접근, 세션 목록/삭제는 O(세션 수)
+ * - sid 클레임이 없는 이전 형식 토큰은 "refresh:{userId}" 문자열로 검증하고, 로테이션 시 Hash로 옮긴다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder SESSION_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final Optional<RedisClientSideCache> clientSideCache; // app.redis.client-cache.enabled=true일 때만 존재
+    private final RedisGuard redisGuard; // Redis 장애·차단기 열림 시 503
 
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidity;
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh:";
+    @Value("${jwt.refresh-session.max-per-user:10}")
+    private int maxSessionsPerUser;
+
+    static final String REFRESH_TOKEN_PREFIX = "refresh:"; // 이전 형식 (사용자당 토큰 원문 1개)
+    static final String SESSION_PREFIX = "refresh-sessions:";
+
+    // 세션 저장 + 만료 세션 정리 + 사용자당 세션 수 제한(만료가 가장 이른 세션부터 제거) + 키 TTL 갱신
+    static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            local now = tonumber(ARGV[4])
+            local maxExpiry = tonumber(ARGV[3])
+            local live = {}
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                local expiry = tonumber(string.match(entries[i + 1], ':(%d+)$')) or 0
+                if expiry <= now then
+                    redis.call('HDEL', KEYS[1], entries[i])
+                else
+                    live[#live + 1] = {entries[i], expiry}
+                    if expiry > maxExpiry then maxExpiry = expiry end
+                end
+            end
+            local limit = tonumber(ARGV[5])
+            if #live > limit then
+                table.sort(live, function(a, b) return a[2] < b[2] end)
+                local excess = #live - limit
+                for i = 1, #live do
+                    if excess == 0 then break end
+                    if live[i][1] ~= ARGV[1] then
+                        redis.call('HDEL', KEYS[1], live[i][1])
+                        excess = excess - 1
+                    end
+                end
+            end
+            redis.call('PEXPIREAT', KEYS[1], maxExpiry)
+            return 1
+            """, Long.class);
+
+    // 세션의 다이제스트가 제시된 토큰과 같고 만료 전일 때만 새 토큰으로 교체
+    static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then return 0 end
+            local digest, expiry = string.match(value, '^(.*):(%d+)$')
+            if digest ~= ARGV[2] or tonumber(expiry) <= tonumber(ARGV[5]) then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl < 0 or tonumber(ARGV[5]) + ttl < tonumber(ARGV[4]) then
+                redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // 이전 형식 토큰이 일치하면 삭제하고 새 토큰을 세션 Hash에 저장
+    static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            local ttl = redis.call('PTTL', KEYS[2])
+            if ttl < 0 or tonumber(ARGV[5]) + ttl < tonumber(ARGV[4]) then
+                redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // 새 기기/세션 식별자 (72비트 난수, base64url 12자)
+    public String newSessionId() {
+        byte[] bytes = new byte[9];
+        RANDOM.nextBytes(bytes);
+        return SESSION_ID_ENCODER.encodeToString(bytes);
+    }
 
     /**
-     * Refresh Token을 Redis에 저장 (화이트리스트 등록)
-     * 로그인 및 토큰 갱신 시 호출
+     * 세션의 Refresh Token을 Redis에 저장 (화이트리스트 등록)
+     * 로그인 시 호출, 같은 사용자의 다른 기기 세션은 유지된다.
      */
-    public void save(Long userId, String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, refreshTokenValidity, TimeUnit.MILLISECONDS);
+    public void save(Long userId, String sessionId, String refreshToken) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidity;
+        redisGuard.run(() -> redisTemplate.execute(SAVE_SCRIPT, List.of(SESSION_PREFIX + userId),
+                sessionId, entry(refreshToken, expiresAt), String.valueOf(expiresAt), String.valueOf(now),
+                String.valueOf(maxSessionsPerUser)));
         log.info("Refresh Token Redis 저장 완료 - userId: {}", userId);
     }
 
     /**
-     * Redis에 저장된 Refresh Token이 요청 토큰과 일치하는지 검증
+     * Redis에 저장된 세션의 Refresh Token이 요청 토큰과 일치하는지 검증
      * 불일치 시 탈취 또는 이미 사용된 토큰으로 간주
+     * 클라이언트 캐시를 사용하면 세션이 바뀌기 전까지 로컬 결과로 검증
+     * @param sessionId 토큰의 sid (이전 형식 토큰이면 null)
      */
-    public boolean validate(Long userId, String refreshToken) {
-        String storedToken = redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
-        return storedToken != null && storedToken.equals(refreshToken);
+    public boolean validate(Long userId, String sessionId, String refreshToken) {
+        return redisGuard.call(() -> matches(userId, sessionId, refreshToken));
+    }
+
+    private boolean matches(Long userId, String sessionId, String refreshToken) {
+        RedisClientSideCache cache = clientSideCache.orElse(null);
+        if (sessionId == null) {
+            String key = REFRESH_TOKEN_PREFIX + userId;
+            String storedToken = cache != null ? cache.get(key) : redisTemplate.opsForValue().get(key);
+            return storedToken != null && storedToken.equals(refreshToken);
+        }
+        String key = SESSION_PREFIX + userId;
+        Object value = cache != null ? cache.hget(key, sessionId) : redisTemplate.opsForHash().get(key, sessionId);
+        if (value == null) {
+            return false;
+        }
+        String entry = value.toString();
+        int separator = entry.lastIndexOf(':');
+        return entry.substring(0, separator).equals(TokenDigest.sha256Base64(refreshToken))
+                && Long.parseLong(entry.substring(separator + 1)) > System.currentTimeMillis();
+    }
+
+    /**
+     * Refresh Token 로테이션 (검증 + 교체를 한 번의 왕복으로 처리)
+     * 같은 토큰으로 동시에 갱신 요청이 와도 하나만 성공하고 나머지는 false
+     * @return 세션에 저장된 토큰이 presented와 일치하여 next로 교체되었으면 true
+     */
+    public boolean rotate(Long userId, String sessionId, String presented, String next, Duration ttl) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        // 스크립트 SHA로 EVALSHA 호출, 서버에 스크립트가 없으면 EVAL로 재시도 (RedisTemplate 처리)
+        Long rotated = redisGuard.call(() -> redisTemplate.execute(ROTATE_SCRIPT, List.of(SESSION_PREFIX + userId),
+                sessionId, TokenDigest.sha256Base64(presented), entry(next, expiresAt),
+                String.valueOf(expiresAt), String.valueOf(now)));
+        if (Long.valueOf(1).equals(rotated)) {
+            log.info("Refresh Token 로테이션 완료 - userId: {}", userId);
+            return true;
+        }
+        return false;
+    }
+
+    // 설정된 Refresh Token 유효기간으로 로테이션
+    public boolean rotate(Long userId, String sessionId, String presented, String next) {
+        return rotate(userId, sessionId, presented, next, Duration.ofMillis(refreshTokenValidity));
     }
 
     /**
-     * Refresh Token을 Redis에서 삭제 (화이트리스트 제거)
-     * 로그아웃 시 호출 → 이후 해당 Refresh Token으로 갱신 불가
+     * 이전 형식("refresh:{userId}") 토큰으로 갱신: 일치하면 삭제하고 next를 새 세션으로 저장 (원자적)
+     * @param sessionId next 토큰에 넣은 새 sid
      */
-    public void delete(Long userId) {
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
+    public boolean migrateLegacy(Long userId, String presented, String sessionId, String next) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidity;
+        Long migrated = redisGuard.call(() -> redisTemplate.execute(MIGRATE_SCRIPT,
+                List.of(REFRESH_TOKEN_PREFIX + userId, SESSION_PREFIX + userId),
+                presented, sessionId, entry(next, expiresAt), String.valueOf(expiresAt), String.valueOf(now)));
+        if (Long.valueOf(1).equals(migrated)) {
+            log.info("이전 형식 Refresh Token을 세션으로 전환 - userId: {}", userId);
+            return true;
+        }
+        return false;
+    }
+
+    // 사용자의 유효한 세션 목록 (만료가 늦은 순)
+    public List<RefreshSession> getSessions(Long userId) {
+        long now = System.currentTimeMillis();
+        List<RefreshSession> sessions = new ArrayList<>();
+        Map<Object, Object> entries = redisGuard.call(() -> redisTemplate.opsForHash().entries(SESSION_PREFIX + userId));
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String value = entry.getValue().toString();
+            long expiresAt = Long.parseLong(value.substring(value.lastIndexOf(':') + 1));
+            if (expiresAt > now) {
+                sessions.add(new RefreshSession(entry.getKey().toString(), Instant.ofEpochMilli(expiresAt)));
+            }
+        }
+        sessions.sort(Comparator.comparing(RefreshSession::expiresAt).reversed());
+        return sessions;
+    }
+
+    /**
+     * 세션의 Refresh Token을 Redis에서 삭제 (화이트리스트 제거)
+     * 로그아웃 시 호출 → 해당 기기의 Refresh Token으로 갱신 불가, 다른 기기는 유지
+     * @param sessionId 토큰의 sid (이전 형식 토큰이면 null)
+     * @return 삭제된 세션이 있으면 true
+     */
+    public boolean delete(Long userId, String sessionId) {
+        boolean deleted = redisGuard.call(() -> sessionId == null
+                ? Boolean.TRUE.equals(redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId))
+                : redisTemplate.opsForHash().delete(SESSION_PREFIX + userId, sessionId) > 0);
         log.info("Refresh Token Redis 삭제 완료 - userId: {}", userId);
+        return deleted;
+    }
+
+    // 세션 삭제를 호출 측 파이프라인/트랜잭션에 추가 (LogoutService가 블랙리스트 쓰기와 묶어 전송)
+    void delete(RedisOperations<String, String> ops, Long userId, String sessionId) {
+        if (sessionId == null) {
+            ops.delete(REFRESH_TOKEN_PREFIX + userId);
+        } else {
+            ops.opsForHash().delete(SESSION_PREFIX + userId, sessionId);
+        }
+    }
+
+    // 사용자의 모든 세션 삭제
+    public void deleteAll(Long userId) {
+        redisGuard.run(() -> redisTemplate.delete(List.of(REFRESH_TOKEN_PREFIX + userId, SESSION_PREFIX + userId)));
+        log.info("Refresh Token 전체 세션 삭제 완료 - userId: {}", userId);
+    }
+
+    static String entry(String refreshToken, long expiresAt) {
+        return TokenDigest.sha256Base64(refreshToken) + ":" + expiresAt;
+    }
+
+    // 세션 목록 항목
+    public record RefreshSession(String sessionId, Instant expiresAt) {
     }
 }
@@ -0,0 +1,220 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 토큰 폐기 기준 시각 ("이 시각 이전에 발급된 토큰은 모두 무효")
+ * - Redis "revoke-epoch:{userId}" = epoch 밀리초, 가장 긴 토큰 유효기간(Refresh) 동안만 보관
+ *   Access Token의 iat_ms와 비교하므로 폐기 직후 같은 초에 다시 로그인해도 새 토큰은 유효
+ * - 노드 로컬 캐시 (짧은 TTL, pub/sub 사용 시 즉시 무효화)
+ *   Redis 클라이언트 캐시를 사용하면 TTL 캐시 대신 서버 무효화 기반 캐시로 조회
+ * - Redis 장애 시 fail-open이면 마지막으로 읽은 값, fail-closed면 모든 토큰을 폐기로 간주
+ * 토큰별 블랙리스트 없이 "모든 기기에서 로그아웃", 사고 시 대량 폐기를 O(사용자 수)로 처리한다.
+ */
+@Slf4j
+@Service
+public class RevocationEpochService implements MessageListener {
+
+    static final String EPOCH_PREFIX = "revoke-epoch:";
+    static final String CHANNEL = "revoke-epoch:events";
+    private static final int PIPELINE_CHUNK_SIZE = 1000;
+    // 이보다 작은 저장값은 이전 형식(epoch 초) → 밀리초로 환산
+    private static final long MILLIS_EPOCH_THRESHOLD = 100_000_000_000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final Optional<RedisMessageListenerContainer> listenerContainer;
+    private final Optional<RedisClientSideCache> clientSideCache;
+    private final RedisGuard redisGuard;
+    private final RevocationFallback revocationFallback;
+    private final long refreshTokenValidity;
+    private final Cache<Long, Long> epochs;
+    private final Cache<Long, Long> lastKnownEpochs; // TTL 캐시가 만료된 뒤에도 장애 시 사용할 마지막 값
+
+    public RevocationEpochService(
+            RedisTemplate<String, String> redisTemplate,
+            UserRepository userRepository,
+            Optional<RedisMessageListenerContainer> listenerContainer,
+            Optional<RedisClientSideCache> clientSideCache,
+            RedisGuard redisGuard,
+            @Value("${jwt.revocation-check.fallback:fail-open}") RevocationFallback revocationFallback,
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.revocation-epoch.cache-ttl:10s}") Duration cacheTtl) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.listenerContainer = listenerContainer;
+        this.clientSideCache = clientSideCache;
+        this.redisGuard = redisGuard;
+        this.revocationFallback = revocationFallback;
+        this.refreshTokenValidity = refreshTokenValidity;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.lastKnownEpochs = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.ifPresent(container -> container.addMessageListener(this, new ChannelTopic(CHANNEL)));
+    }
+
+    /**
+     * 토큰 발급 시각(iat)이 사용자의 폐기 기준 시각 이전이면 true
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.getIssuedAt() == null) {
+            return false;
+        }
+        return token.getIssuedAt().toEpochMilli() < getEpoch(token.getUserId());
+    }
+
+    // 한 사용자의 모든 기기 로그아웃
+    public void revokeAll(Long userId) {
+        revokeAll(List.of(userId));
+    }
+
+    /**
+     * 여러 사용자의 기존 토큰을 모두 폐기 (epoch 갱신 + Refresh Token 삭제)
+     * 1000명 단위로 파이프라인 전송
+     */
+    public void revokeAll(Collection<Long> userIds) {
+        // 같은 밀리초에 발급된 토큰까지 폐기되도록 +1ms (iat_ms가 없는 이전 형식 토큰은 초 단위 iat로 비교되어 폐기)
+        String epoch = String.valueOf(System.currentTimeMillis() + 1);
+        List<Long> chunk = new ArrayList<>(PIPELINE_CHUNK_SIZE);
+
+        for (Long userId : userIds) {
+            chunk.add(userId);
+            if (chunk.size() == PIPELINE_CHUNK_SIZE) {
+                writeEpochs(chunk, epoch);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeEpochs(chunk, epoch);
+        }
+        log.info("토큰 일괄 폐기 완료 - {}명", userIds.size());
+    }
+
+    // 특정 OAuth 제공자의 모든 사용자 토큰 폐기 (제공자 측 사고 대응)
+    public void revokeAllByProvider(String provider) {
+        revokeAll(userRepository.findIdsByProvider(provider));
+    }
+
+    // 다른 노드의 epoch 갱신 알림 → 로컬 캐시 무효화 (메시지: 쉼표로 구분한 userId)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String userId : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+            epochs.invalidate(Long.valueOf(userId));
+        }
+    }
+
+    private long getEpoch(Long userId) {
+        Long cached = epochs.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        return redisGuard.read(() -> loadEpoch(userId), () -> fallbackEpoch(userId));
+    }
+
+    private long loadEpoch(Long userId) {
+        if (clientSideCache.isPresent()) {
+            // 서버가 키 변경 시 무효화하므로 TTL 동안의 지연 없이 반영
+            long epoch = parseEpoch(clientSideCache.get().get(EPOCH_PREFIX + userId));
+            lastKnownEpochs.put(userId, epoch);
+            return epoch;
+        }
+        long epoch = epochs.get(userId, id -> parseEpoch(redisTemplate.opsForValue().get(EPOCH_PREFIX + id)));
+        lastKnownEpochs.put(userId, epoch);
+        return epoch;
+    }
+
+    // TTL 캐시에 있는 값 (없으면 null), 리액티브 조회 전 확인용
+    Long cachedEpoch(Long userId) {
+        return epochs.getIfPresent(userId);
+    }
+
+    // 리액티브로 읽은 값을 동기 경로와 같은 캐시에 보관
+    void rememberEpoch(Long userId, long epoch) {
+        epochs.put(userId, epoch);
+        lastKnownEpochs.put(userId, epoch);
+    }
+
+    // Redis를 확인할 수 없을 때: fail-closed면 모든 토큰 폐기, fail-open이면 마지막으로 읽은 값 (없으면 폐기 없음)
+    long fallbackEpoch(Long userId) {
+        if (revocationFallback == RevocationFallback.FAIL_CLOSED) {
+            return Long.MAX_VALUE;
+        }
+        Long lastKnown = lastKnownEpochs.getIfPresent(userId);
+        return lastKnown != null ? lastKnown : 0L;
+    }
+
+    static long parseEpoch(String epoch) {
+        if (epoch == null) {
+            return 0L;
+        }
+        long value = Long.parseLong(epoch);
+        return value < MILLIS_EPOCH_THRESHOLD ? value * 1000 : value;
+    }
+
+    private void writeEpochs(List<Long> userIds, String epoch) {
+        redisGuard.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : userIds) {
+                    ops.opsForValue().set(EPOCH_PREFIX + userId, epoch, refreshTokenValidity, TimeUnit.MILLISECONDS);
+                    ops.delete(List.of(RefreshTokenService.REFRESH_TOKEN_PREFIX + userId,
+                            RefreshTokenService.SESSION_PREFIX + userId));
+                }
+                return null;
+            }
+        }));
+
+        epochs.invalidateAll(userIds);
+        long written = Long.parseLong(epoch);
+        for (Long userId : userIds) {
+            lastKnownEpochs.put(userId, written);
+        }
+        if (listenerContainer.isPresent()) {
+            redisGuard.run(() -> redisTemplate.convertAndSend(CHANNEL, joinIds(userIds)));
+        }
+    }
+
+    private static String joinIds(List<Long> userIds) {
+        StringBuilder builder = new StringBuilder(userIds.size() * 8);
+        for (Long userId : userIds) {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+            builder.append(userId);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.cotato.backend.common.jwt;
+
+/**
+ * Redis 장애(시간 초과·차단기 열림) 시 토큰 폐기 확인 방식
+ * FAIL_OPEN: 노드 로컬 정보(이 노드의 최근 로그아웃, 블랙리스트 미러, 마지막으로 읽은 폐기 시각)로만 판단, 나머지 토큰은 허용
+ * FAIL_CLOSED: 폐기된 것으로 간주 (장애 동안 인증 필요한 요청은 모두 401)
+ */
+public enum RevocationFallback {
+    FAIL_OPEN,
+    FAIL_CLOSED
+}
@@ -0,0 +1,190 @@
+package com.cotato.backend.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블랙리스트의 노드 로컬 미러 (토큰 ID → 토큰 만료 시각)
+ * - 각 엔트리는 토큰 exp에 만료 (Caffeine 가변 만료 = 계층형 타이밍 휠)
+ * - 다른 노드의 로그아웃은 Redis pub/sub로 전파
+ * - 구독(재구독) 완료 시 Redis에서 전체 재구성, 재구성 전에는 ready=false → Redis 직접 조회
+ * 미러가 준비되면 일반 요청은 블랙리스트 확인에 Redis를 호출하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.blacklist.mirror.enabled", havingValue = "true")
+public class RevokedTokenMirror implements MessageListener, SubscriptionListener {
+
+    static final String CHANNEL = "blacklist:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "revoked-token-mirror");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 만료 전까지 반드시 유지되어야 하므로 크기 제한 없이 만료로만 제거
+    private final Cache<String, Long> revoked = Caffeine.newBuilder()
+            .expireAfter(new RevocationExpiry())
+            .build();
+
+    private volatile boolean ready = false;
+
+    public RevokedTokenMirror(RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    // 로컬 반영 후 다른 노드에 전파
+    public void publish(String tokenId, long expiresAtMillis) {
+        revoked.put(tokenId, expiresAtMillis);
+        redisTemplate.convertAndSend(CHANNEL, tokenId + ":" + expiresAtMillis);
+    }
+
+    // 메시지 형식: {tokenId}:{expiresAtMillis}
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+            return;
+        }
+        revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    }
+
+    // 최초 구독·재연결 후 재구독 시: 구독 이후 이벤트는 onMessage로 받으므로 그 전 상태만 Redis에서 재구성
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    // 연결이 끊기면 놓친 이벤트가 있을 수 있으므로 재구성 전까지 Redis 직접 조회
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        ready = false;
+        log.warn("블랙리스트 채널 구독 해제 - 재구독 시까지 Redis 직접 조회");
+    }
+
+    private void rebuild() {
+        try {
+            int loaded = loadBuckets() + loadLegacyKeys();
+            ready = true;
+            log.info("블랙리스트 미러 재구성 완료 - {}건", loaded);
+        } catch (Exception e) {
+            ready = false;
+            log.error("블랙리스트 미러 재구성 실패 - Redis 직접 조회로 동작", e);
+        }
+    }
+
+    // revoked:{epochMinute} 버킷의 jti → 버킷 종료 시각까지 보관
+    private int loadBuckets() {
+        return scan(TokenBlacklistService.REVOKED_BUCKET_PREFIX, (connection, key, suffix) -> {
+            long expiresAt = TokenBlacklistService.bucketEndMillis(Long.parseLong(suffix));
+            Set<byte[]> members = connection.setCommands().sMembers(key);
+            if (members == null) {
+                return 0;
+            }
+            for (byte[] member : members) {
+                revoked.put(new String(member, StandardCharsets.UTF_8), expiresAt);
+            }
+            return members.size();
+        });
+    }
+
+    // jti 도입 이전의 blacklist:{토큰} 키 → 키 TTL까지 보관
+    private int loadLegacyKeys() {
+        long now = System.currentTimeMillis();
+        return scan(TokenBlacklistService.BLACKLIST_PREFIX, (connection, key, suffix) -> {
+            Long ttl = connection.keyCommands().pTtl(key);
+            if (ttl == null || ttl <= 0) {
+                return 0;
+            }
+            revoked.put(TokenBlacklistService.legacyTokenId(suffix), now + ttl);
+            return 1;
+        });
+    }
+
+    private int scan(String prefix, KeyLoader loader) {
+        Integer loaded = redisTemplate.execute((RedisCallback<Integer>) connection -> {
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    byte[] key = cursor.next();
+                    String suffix = new String(key, StandardCharsets.UTF_8).substring(prefix.length());
+                    count += loader.load(connection, key, suffix);
+                }
+            }
+            return count;
+        });
+        return loaded != null ? loaded : 0;
+    }
+
+    @FunctionalInterface
+    private interface KeyLoader {
+        int load(RedisConnection connection, byte[] key, String suffix);
+    }
+
+    // 엔트리 만료 = 토큰 만료 시각
+    private static class RevocationExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiresAtMillis - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cotato.backend.common.jwt;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 재사용 객체(Mac, MessageDigest, 작업 버퍼) 보관
+ * - 플랫폼 스레드: ThreadLocal (스레드 풀 크기만큼만 생성)
+ * - 가상 스레드: 요청마다 새 스레드라 ThreadLocal로는 재사용되지 않으므로 공유 풀에서 빌리고 반납
+ * acquire한 스레드에서 release까지 호출해야 한다.
+ */
+final class ScratchPool<T> {
+
+    private static final int MAX_POOLED = 256;
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<T> platform;
+    private final ArrayBlockingQueue<T> pooled = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    ScratchPool(Supplier<T> factory) {
+        this.factory = factory;
+        this.platform = ThreadLocal.withInitial(factory);
+    }
+
+    T acquire() {
+        if (!Thread.currentThread().isVirtual()) {
+            return platform.get();
+        }
+        T value = pooled.poll();
+        return value != null ? value : factory.get();
+    }
+
+    // 풀이 가득 차면 버림 (동시 가상 스레드 수가 일시적으로 많았던 경우)
+    void release(T value) {
+        if (Thread.currentThread().isVirtual()) {
+            pooled.offer(value);
+        }
+    }
+}
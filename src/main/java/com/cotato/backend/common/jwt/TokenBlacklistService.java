@@ -1,39 +1,158 @@
 package com.cotato.backend.common.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Access Token 블랙리스트 (로그아웃된 토큰 차단)
+ * - jti가 있는 토큰: 만료 시각(분) 단위 Redis Set "revoked:{epochMinute}"에 jti만 저장,
+ *   버킷 전체가 마지막 토큰 만료 직후 함께 만료된다.
+ * - jti가 없는 이전 형식 토큰: "blacklist:{토큰 원문}" 키 (배포 후 최대 토큰 유효기간 동안만 사용)
+ * - Redis 장애 시 jwt.revocation-check.fallback에 따라 로컬 정보로 판단(fail-open)하거나 폐기로 간주(fail-closed)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
+    static final String BLACKLIST_PREFIX = "blacklist:";
+    static final String REVOKED_BUCKET_PREFIX = "revoked:";
+    private static final long BUCKET_SECONDS = 60;
+    private static final long BUCKET_GRACE_SECONDS = 60; // 서버 간 시계 오차 여유
+
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private final Optional<RevokedTokenMirror> revokedTokenMirror; // jwt.blacklist.mirror.enabled=true일 때만 존재
+    private final Optional<RedisClientSideCache> clientSideCache; // app.redis.client-cache.enabled=true일 때만 존재
+    private final RedisGuard redisGuard;
+
+    @Value("${jwt.revocation-check.fallback:fail-open}")
+    private RevocationFallback revocationFallback;
+
+    // 이 노드에서 폐기한 토큰 (Redis 장애 시 fail-open 판단용, Access Token 유효기간 동안 보관)
+    private final Cache<String, Boolean> recentlyRevoked = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
 
     /**
-     * 토큰을 블랙리스트에 추가
-     * @param token JWT 토큰
-     * @param expirationTimeInMs 토큰 만료까지 남은 시간 (밀리초)
+     * 토큰을 블랙리스트에 추가 (토큰 만료 시각까지만 보관, 만료되면 어차피 무효)
+     * @param token 검증된 Access Token
      */
-    public void addToBlacklist(String token, long expirationTimeInMs) {
-        String key = BLACKLIST_PREFIX + token;
-        // 토큰 만료 시간까지만 블랙리스트에 보관 (만료되면 어차피 무효)
-        redisTemplate.opsForValue().set(key, "logout", expirationTimeInMs, TimeUnit.MILLISECONDS);
+    public void addToBlacklist(VerifiedToken token) {
+        // SADD + EXPIREAT을 한 번의 왕복으로 전송
+        redisGuard.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                addToBlacklist((RedisOperations<String, String>) operations, token);
+                return null;
+            }
+        }));
+
+        publish(token);
         log.info("토큰이 블랙리스트에 추가되었습니다.");
     }
 
+    /**
+     * 블랙리스트 쓰기를 호출 측 파이프라인/트랜잭션에 추가 (LogoutService가 다른 쓰기와 묶어 전송)
+     * 쓰기가 끝난 뒤 publish(token)을 호출해야 한다.
+     */
+    void addToBlacklist(RedisOperations<String, String> ops, VerifiedToken token) {
+        if (token.getId() != null) {
+            long bucket = bucketOf(token.getExpiresAt());
+            String key = REVOKED_BUCKET_PREFIX + bucket;
+            long bucketExpireAt = (bucket + 1) * BUCKET_SECONDS + BUCKET_GRACE_SECONDS;
+            ops.opsForSet().add(key, token.getId());
+            ops.expireAt(key, Instant.ofEpochSecond(bucketExpireAt));
+        } else {
+            String key = BLACKLIST_PREFIX + token.getToken();
+            ops.opsForValue().set(key, "logout", token.getRemainingExpiration(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 로컬 미러 반영 + 다른 노드에 전파
+    void publish(VerifiedToken token) {
+        recentlyRevoked.put(revocationId(token), Boolean.TRUE);
+        revokedTokenMirror.ifPresent(mirror ->
+                mirror.publish(revocationId(token), token.getExpiresAt().toEpochMilli()));
+    }
+
     /**
      * 토큰이 블랙리스트에 있는지 확인
-     * @param token JWT 토큰
+     * 로컬 미러가 준비되어 있으면 Redis를 호출하지 않는다.
+     * 클라이언트 캐시를 사용하면 이미 확인한 토큰은 버킷이 바뀌기 전까지 로컬 결과를 사용한다.
+     * @param token 검증된 토큰
      * @return 블랙리스트에 있으면 true
      */
-    public boolean isBlacklisted(String token) {
-        String key = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public boolean isBlacklisted(VerifiedToken token) {
+        RevokedTokenMirror mirror = revokedTokenMirror.orElse(null);
+        if (mirror != null && mirror.isReady()) {
+            return mirror.isRevoked(revocationId(token));
+        }
+        return redisGuard.read(() -> isBlacklistedInRedis(token), () -> fallback(token, mirror));
+    }
+
+    private boolean isBlacklistedInRedis(VerifiedToken token) {
+        RedisClientSideCache cache = clientSideCache.orElse(null);
+        if (token.getId() != null) {
+            String key = REVOKED_BUCKET_PREFIX + bucketOf(token.getExpiresAt());
+            return cache != null
+                    ? cache.isMember(key, token.getId())
+                    : Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, token.getId()));
+        }
+        String key = BLACKLIST_PREFIX + token.getToken();
+        return cache != null ? cache.exists(key) : Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    // 로컬 미러만으로 판단 가능하면 결과, Redis 조회가 필요하면 null (ReactiveTokenService용)
+    Boolean isBlacklistedLocally(VerifiedToken token) {
+        RevokedTokenMirror mirror = revokedTokenMirror.orElse(null);
+        return mirror != null && mirror.isReady() ? mirror.isRevoked(revocationId(token)) : null;
+    }
+
+    boolean isBlacklistedWhenUnavailable(VerifiedToken token) {
+        return fallback(token, revokedTokenMirror.orElse(null));
+    }
+
+    // Redis를 확인할 수 없을 때: fail-open이면 이 노드가 알고 있는 폐기 정보만 사용
+    private boolean fallback(VerifiedToken token, RevokedTokenMirror mirror) {
+        if (revocationFallback == RevocationFallback.FAIL_CLOSED) {
+            return true;
+        }
+        String revocationId = revocationId(token);
+        return recentlyRevoked.getIfPresent(revocationId) != null
+                || (mirror != null && mirror.isRevoked(revocationId));
+    }
+
+    // 만료 시각이 속한 버킷 (epoch 분)
+    static long bucketOf(Instant expiresAt) {
+        return expiresAt.getEpochSecond() / BUCKET_SECONDS;
+    }
+
+    // 버킷의 마지막 시각 (미러 만료 시각으로 사용, 실제 토큰 exp 이후)
+    static long bucketEndMillis(long bucket) {
+        return (bucket + 1) * BUCKET_SECONDS * 1000;
+    }
+
+    // 미러·이벤트에서 사용하는 식별자: jti, 이전 형식 토큰은 원문 다이제스트
+    static String revocationId(VerifiedToken token) {
+        return token.getId() != null ? token.getId() : legacyTokenId(token.getToken());
+    }
+
+    static String legacyTokenId(String token) {
+        return TokenDigest.sha256Base64(token);
     }
 }
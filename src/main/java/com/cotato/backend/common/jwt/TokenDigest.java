@@ -0,0 +1,36 @@
+package com.cotato.backend.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// 토큰 원문 대신 저장·비교에 사용하는 고정 길이 SHA-256 다이제스트
+public final class TokenDigest {
+
+    private static final ScratchPool<MessageDigest> SHA_256 = new ScratchPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    // 32바이트 다이제스트
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            return digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    // 43자 base64url 다이제스트 (Redis 키/값, 문자열 식별자 용도)
+    public static String sha256Base64(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
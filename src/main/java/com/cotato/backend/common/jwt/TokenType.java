@@ -0,0 +1,34 @@
+package com.cotato.backend.common.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TokenType {
+    ACCESS("access", "a"),
+    REFRESH("refresh", "r");
+
+    private final String value; // JWT "type" 클레임 값 (FULL 프로필)
+    private final String code;  // JWT "t" 클레임 값 (COMPACT 프로필)
+
+    // 클레임 값 → TokenType (알 수 없는 값이면 null)
+    public static TokenType from(String value) {
+        for (TokenType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    // "t" 클레임 값 → TokenType (알 수 없는 값이면 null)
+    public static TokenType fromCode(String code) {
+        for (TokenType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.entity.User;
+import com.cotato.backend.domain.user.repository.UserProfile;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SecurityContext에 담기는 불변 사용자 정보
+ * 영속 엔티티 대신 필요한 필드만 보관한다.
+ */
+@Getter
+public class UserPrincipal {
+
+    // Role별 권한 목록은 불변이므로 미리 만들어 모든 요청이 공유
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.getValue())));
+        }
+    }
+
+    // 필터가 이번 요청에서 저장소(캐시/DB)로부터 읽은 principal을 보관하는 request attribute 이름
+    // (claims 모드의 토큰 클레임 principal은 보관하지 않음)
+    public static final String REQUEST_ATTRIBUTE = "com.cotato.backend.common.jwt.UserPrincipal";
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final String provider;
+    private final Role role;
+
+    public UserPrincipal(Long id, String email, String name, String provider, Role role) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.provider = provider;
+        this.role = role;
+    }
+
+    // User 엔티티 → principal (권한은 users.role 컬럼)
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getName(), user.getProvider(), user.getRole());
+    }
+
+    public static UserPrincipal from(UserProfile profile) {
+        return new UserPrincipal(profile.id(), profile.email(), profile.name(), profile.provider(), profile.role());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+}
@@ -0,0 +1,122 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명·만료 검증을 통과한 JWT의 불변 클레임 뷰
+ * 한 번 파싱한 결과를 필터와 컨트롤러가 공유하여 재검증을 피한다.
+ */
+@Getter
+public class VerifiedToken {
+
+    // 필터가 검증 결과를 보관하는 request attribute 이름 (블랙리스트·일괄 폐기 확인을 통과한 토큰만)
+    public static final String REQUEST_ATTRIBUTE = "com.cotato.backend.common.jwt.VerifiedToken";
+    // Access Token 발급 시각(밀리초) 클레임 - iat는 초 단위라 같은 초의 일괄 폐기 전후를 구분할 수 없음
+    static final String ISSUED_AT_MILLIS = "iat_ms";
+
+    private final String token;
+    private final String id; // jti (이전 형식 토큰은 null)
+    private final Long userId;
+    private final String sessionId; // Refresh Token의 sid (이전 형식 토큰, Access Token은 null)
+    private final String email;
+    private final String name;
+    private final String provider;
+    private final Role role;
+    private final TokenType type;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final String keyId; // 서명 키 kid (ES256 토큰만, HS* 토큰은 null) - 키 제거 시 캐시 무효화
+
+    // CompactJwtCodec이 Claims 없이 바로 생성 (HS* 토큰이므로 kid 없음)
+    VerifiedToken(String token, String id, Long userId, String sessionId, String email, String name, String provider,
+                  Role role, TokenType type, Instant issuedAt, Instant expiresAt) {
+        this(token, id, userId, sessionId, email, name, provider, role, type, issuedAt, expiresAt, null);
+    }
+
+    private VerifiedToken(String token, String id, Long userId, String sessionId, String email, String name,
+                          String provider, Role role, TokenType type, Instant issuedAt, Instant expiresAt,
+                          String keyId) {
+        this.token = token;
+        this.id = id;
+        this.userId = userId;
+        this.sessionId = sessionId;
+        this.email = email;
+        this.name = name;
+        this.provider = provider;
+        this.role = role;
+        this.type = type;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.keyId = keyId;
+    }
+
+    public static VerifiedToken of(String token, Claims claims) {
+        return of(token, claims, null);
+    }
+
+    public static VerifiedToken of(String token, Claims claims, String keyId) {
+        String role = claims.get("role", String.class);
+        return new VerifiedToken(
+                token,
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.get("sid", String.class),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                claims.get("provider", String.class),
+                role != null ? Role.valueOf(role) : Role.USER,
+                typeOf(claims),
+                claims.getIssuedAt() != null
+                        ? issuedAt(claims.getIssuedAt().getTime() / 1000, claims.get(ISSUED_AT_MILLIS, Long.class))
+                        : null,
+                claims.getExpiration().toInstant(),
+                keyId
+        );
+    }
+
+    // iat와 같은 초의 iat_ms가 있으면 밀리초 정밀도, 없으면(이전 형식 토큰) 초 단위
+    static Instant issuedAt(long issuedAtSeconds, Long issuedAtMillis) {
+        if (issuedAtMillis != null && Math.floorDiv(issuedAtMillis, 1000) == issuedAtSeconds) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        return Instant.ofEpochSecond(issuedAtSeconds);
+    }
+
+    // FULL 프로필은 "type", COMPACT 프로필은 "t" 클레임
+    static TokenType typeOf(Claims claims) {
+        String type = claims.get("type", String.class);
+        if (type != null) {
+            return TokenType.from(type);
+        }
+        return TokenType.fromCode(claims.get("t", String.class));
+    }
+
+    /**
+     * 클레임만으로 principal 생성 (claims 인증 모드)
+     * 프로필 클레임이 없는 이전 형식 토큰이면 null → 호출 측에서 DB 조회로 대체
+     * (COMPACT 프로필 토큰은 항상 null이므로 claims 모드와 함께 설정할 수 없음 - JwtAuthenticationFilter 시작 검사)
+     */
+    public UserPrincipal toPrincipal() {
+        if (email == null || name == null || provider == null) {
+            return null;
+        }
+        return new UserPrincipal(userId, email, name, provider, role);
+    }
+
+    public boolean isAccessToken() {
+        return type == TokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+
+    // 토큰 만료까지 남은 시간 (밀리초)
+    public long getRemainingExpiration() {
+        return Math.max(expiresAt.toEpochMilli() - System.currentTimeMillis(), 0);
+    }
+}
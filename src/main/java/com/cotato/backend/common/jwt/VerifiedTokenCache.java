@@ -0,0 +1,95 @@
+package com.cotato.backend.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 캐시 (토큰 SHA-256 다이제스트 → VerifiedToken)
+ * 같은 Access Token이 만료 전까지 반복 전송되므로 파싱·HMAC 검증을 한 번만 수행한다.
+ * - 크기 제한: Caffeine W-TinyLFU 축출
+ * - 각 엔트리는 토큰 자체의 exp 시각에 만료
+ * - 서명 키(kid)가 키 집합에서 제거되면 그 키로 서명된 엔트리도 제거 (JwtKeyRing 갱신 시)
+ * - 검증에 실패한 토큰은 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            // cache.gets{result=hit|miss}, cache.evictions 등으로 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+            log.info("JWT 검증 캐시 활성화 - maximumSize: {}", maximumSize);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 verifier로 검증 후 성공한 결과만 저장
+     * verifier는 검증 실패 시 null을 반환해야 한다.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled || !StringUtils.hasText(token)) {
+            return verifier.apply(token);
+        }
+        // 다이제스트 충돌이 곧 서명 우회가 되므로 암호학적 해시를 키로 사용
+        return cache.get(ByteBuffer.wrap(TokenDigest.sha256(token)), key -> verifier.apply(token));
+    }
+
+    // 제거된 kid로 서명된 토큰 엔트리 삭제 (키 교체·유출 대응, 다음 요청에서 다시 검증되어 거부됨)
+    public void invalidateKeys(Set<String> removedKeyIds) {
+        if (removedKeyIds.isEmpty()) {
+            return;
+        }
+        cache.asMap().values().removeIf(verified -> removedKeyIds.contains(verified.getKeyId()));
+        log.info("JWT 검증 캐시에서 제거된 서명 키의 토큰 삭제 - kid: {}", removedKeyIds);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 엔트리 만료 = 토큰의 exp
+    private static class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.getRemainingExpiration());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.cotato.backend.domain.user.entity;
 
 import jakarta.persistence.*;
+import com.cotato.backend.domain.oauth.Role;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"email", "provider"})
 })
@@ -31,6 +34,12 @@ public class User {
     @Column(nullable = false)
     private String provider; // google, kakao, naver
 
+    // 신규 사용자는 USER, 관리자 지정은 DB에서 직접 변경
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'USER'")
+    @Column(nullable = false, length = 20)
+    private Role role;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -44,5 +53,6 @@ public class User {
         this.name = name;
         this.email = email;
         this.provider = provider;
+        this.role = Role.USER;
     }
 }
@@ -0,0 +1,56 @@
+package com.cotato.backend.domain.user.entity;
+
+import com.cotato.backend.domain.user.repository.UserIdentityCache;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 저장·삭제 시 사용자 캐시(principal, 로그인 식별자) 무효화
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ * (EntityManagerFactory 초기화 중 생성될 수 있어 캐시는 지연 조회)
+ */
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserPrincipalCache> userPrincipalCache;
+    private final ObjectProvider<UserIdentityCache> userIdentityCache;
+
+    public UserCacheInvalidationListener(ObjectProvider<UserPrincipalCache> userPrincipalCache,
+                                         ObjectProvider<UserIdentityCache> userIdentityCache) {
+        this.userPrincipalCache = userPrincipalCache;
+        this.userIdentityCache = userIdentityCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        // (provider, email) → id 매핑도 제거 (이전 이메일 키는 로그인 시 principal과 비교해 다시 조회)
+        UserIdentityCache identityCache = userIdentityCache.getIfAvailable();
+        if (identityCache != null) {
+            identityCache.invalidate(user.getProvider(), user.getEmail());
+        }
+
+        Long userId = user.getId();
+        UserPrincipalCache cache = userPrincipalCache.getIfAvailable();
+        if (userId == null || cache == null) {
+            return;
+        }
+
+        cache.invalidate(userId);
+
+        // flush ~ commit 사이에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
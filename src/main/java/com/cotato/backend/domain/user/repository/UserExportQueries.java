@@ -0,0 +1,18 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.user.entity.User;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 전체 내보내기용 스트림 조회 (UserRepository 조각)
+ * fetch size를 DB 종류에 따라 정해야 하므로 @QueryHints 대신 UserExportQueriesImpl에서 구현
+ */
+public interface UserExportQueries {
+
+    // 호출자는 트랜잭션 안에서 스트림을 닫아야 함
+    Stream<User> streamAll();
+
+    Stream<User> streamByProviders(Collection<String> providers);
+}
@@ -0,0 +1,66 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * 내보내기 쿼리에만 스트리밍 fetch size 적용 (커넥션 풀 전체 설정은 바꾸지 않음)
+ * - MySQL: fetch size Integer.MIN_VALUE → Connector/J가 결과를 한 행씩 스트리밍 (전체 결과를 메모리에 올리지 않음)
+ *   스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 호출자는 행 기록·detach만 수행
+ * - 그 외(H2 등): fetch size 1000 (음수 fetch size는 지원하지 않음)
+ */
+@Slf4j
+public class UserExportQueriesImpl implements UserExportQueries {
+
+    static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public UserExportQueriesImpl(EntityManager entityManager, DataSource dataSource) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSizeFor(dataSource);
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return stream(entityManager.createQuery("select u from User u order by u.id", User.class));
+    }
+
+    @Override
+    public Stream<User> streamByProviders(Collection<String> providers) {
+        return stream(entityManager.createQuery("select u from User u where u.provider in :providers order by u.id",
+                User.class).setParameter("providers", providers));
+    }
+
+    private Stream<User> stream(TypedQuery<User> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream();
+    }
+
+    int fetchSize() {
+        return fetchSize;
+    }
+
+    private static int fetchSizeFor(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+            if ("MySQL".equalsIgnoreCase(product)) {
+                return Integer.MIN_VALUE;
+            }
+        } catch (Exception e) {
+            log.warn("DB 종류 확인 실패, 내보내기 fetch size {} 사용: {}", DEFAULT_FETCH_SIZE, e.getMessage());
+        }
+        return DEFAULT_FETCH_SIZE;
+    }
+}
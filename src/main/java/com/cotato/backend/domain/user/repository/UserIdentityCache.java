@@ -0,0 +1,47 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 시 (provider, email) → userId 캐시
+ * 한 번 생성된 사용자의 id는 바뀌지 않으므로 재로그인은 DB upsert 없이 id를 얻는다.
+ * 사용자 삭제·이메일 변경 시 UserCacheInvalidationListener가 무효화
+ */
+@Component
+public class UserIdentityCache {
+
+    private final Cache<String, Long> cache;
+
+    public UserIdentityCache(
+            @Value("${app.user-cache.identity.maximum-size:100000}") long maximumSize,
+            @Value("${app.user-cache.identity.ttl:1h}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.identity");
+    }
+
+    // 캐시 미스 시 loader(upsert) 실행, 같은 키의 동시 최초 로그인은 한 번만 로드
+    public long get(String provider, String email, Supplier<Long> loader) {
+        return cache.get(key(provider, email), k -> loader.get());
+    }
+
+    public void invalidate(String provider, String email) {
+        cache.invalidate(key(provider, email));
+    }
+
+    private static String key(String provider, String email) {
+        return provider + ':' + email;
+    }
+}
@@ -0,0 +1,76 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.common.jwt.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 principal 조회 캐시 (userId → UserPrincipal), 미스 시 UserProfile projection 한 번 조회
+ * - 영속 엔티티가 아닌 불변 principal만 보관
+ * - 크기 제한 + TTL, User 수정·삭제 시 UserCacheInvalidationListener가 무효화
+ * - 존재하지 않는 사용자는 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${app.user-cache.enabled:false}") boolean enabled,
+            @Value("${app.user-cache.maximum-size:50000}") long maximumSize,
+            @Value("${app.user-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        if (enabled) {
+            // 적중률, 로드 시간, 축출 수를 cache.* 지표로 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.principal");
+            log.info("사용자 캐시 활성화 - maximumSize: {}, ttl: {}", maximumSize, ttl);
+        }
+    }
+
+    // 사용자 principal 조회 (캐시 미스 시 DB 로드)
+    public Optional<UserPrincipal> get(Long userId) {
+        if (!enabled) {
+            return load(userId);
+        }
+        return Optional.ofNullable(cache.get(userId, id -> load(id).orElse(null)));
+    }
+
+    // 캐시에 있을 때만 반환 (DB를 조회하지 않음), 리액티브 경로에서 이벤트 루프 스레드 그대로 처리할지 판단
+    public Optional<UserPrincipal> getIfCached(Long userId) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(userId)) : Optional.empty();
+    }
+
+    // 사용자 정보 변경·삭제 시 호출
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Optional<UserPrincipal> load(Long userId) {
+        return userRepository.findProfileById(userId).map(UserPrincipal::from);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.oauth.Role;
+
+/**
+ * 인증 principal 생성용 최소 projection (id, name, email, provider, role)
+ * 관리 엔티티·스냅샷 없이 필요한 컬럼만 읽는다.
+ */
+public record UserProfile(Long id, String name, String email, String provider, Role role) {
+}
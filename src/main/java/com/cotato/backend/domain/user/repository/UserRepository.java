@@ -1,10 +1,33 @@
 package com.cotato.backend.domain.user.repository;
 
 import com.cotato.backend.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserExportQueries {
     Optional<User> findByEmailAndProvider(String email, String provider);
-}
\ No newline at end of file
+
+    // principal 로드용 (findById와 달리 엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("select new com.cotato.backend.domain.user.repository.UserProfile(u.id, u.name, u.email, u.provider, u.role)"
+            + " from User u where u.id = :id")
+    Optional<UserProfile> findProfileById(@Param("id") Long id);
+
+    @Query("select u.id from User u where u.provider = :provider")
+    List<Long> findIdsByProvider(@Param("provider") String provider);
+
+    // 키셋 페이지: cursor(마지막으로 받은 id) 다음부터 PK 순서로 limit건 (OFFSET 없이 인덱스 범위 스캔)
+    @Query("select new com.cotato.backend.domain.user.repository.UserSummary(u.id, u.name, u.email, u.provider, u.createdAt)"
+            + " from User u where u.id > :cursor order by u.id")
+    List<UserSummary> findPageAfter(@Param("cursor") long cursor, Limit limit);
+
+    @Query("select new com.cotato.backend.domain.user.repository.UserSummary(u.id, u.name, u.email, u.provider, u.createdAt)"
+            + " from User u where u.id > :cursor and u.provider in :providers order by u.id")
+    List<UserSummary> findPageAfter(@Param("cursor") long cursor, @Param("providers") Collection<String> providers,
+                                    Limit limit);
+}
@@ -0,0 +1,16 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록/내보내기용 조회 전용 projection
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+ */
+public record UserSummary(Long id, String name, String email, String provider, LocalDateTime createdAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getProvider(), user.getCreatedAt());
+    }
+}
@@ -0,0 +1,111 @@
+package com.cotato.backend.domain.user.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (email, provider)로 사용자를 조회하거나 없으면 생성하고 id 반환 (한 문장, 유니크 제약으로 동시 최초 로그인도 한 행)
+ * - MySQL: INSERT ... ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id) → 기존 행이면 그 id가 생성 키로 반환
+ * - H2: SELECT id FROM FINAL TABLE (MERGE INTO ... USING ...)
+ * - 그 외: 조회 → 삽입, 유니크 제약 위반 시 재조회
+ * 신규 사용자는 USER 권한, 기존 사용자의 이름·권한·생성 시각은 바꾸지 않는다. (엔티티 리스너를 거치지 않으므로 사용자 캐시 무효화 불필요)
+ */
+@Slf4j
+@Repository
+public class UserUpsertRepository {
+
+    private static final String MYSQL_UPSERT = """
+            INSERT INTO users (name, email, provider, role, created_at, updated_at) VALUES (?, ?, ?, 'USER', ?, ?)
+            ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)""";
+
+    private static final String H2_UPSERT = """
+            SELECT id FROM FINAL TABLE (
+                MERGE INTO users u
+                USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP)))
+                    AS s(name, email, provider, now)
+                ON u.email = s.email AND u.provider = s.provider
+                WHEN MATCHED THEN UPDATE SET u.updated_at = u.updated_at
+                WHEN NOT MATCHED THEN INSERT (name, email, provider, role, created_at, updated_at)
+                    VALUES (s.name, s.email, s.provider, 'USER', s.now, s.now))""";
+
+    private static final String SELECT_ID = "SELECT id FROM users WHERE email = ? AND provider = ?";
+    private static final String INSERT = """
+            INSERT INTO users (name, email, provider, role, created_at, updated_at) VALUES (?, ?, ?, 'USER', ?, ?)""";
+
+    private enum Dialect { MYSQL, H2, GENERIC }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    public UserUpsertRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = detectDialect(dataSource);
+        log.info("사용자 upsert 방식: {}", dialect);
+    }
+
+    public long upsert(String name, String email, String provider) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return switch (dialect) {
+            case MYSQL -> insert(MYSQL_UPSERT, name, email, provider, now);
+            case H2 -> jdbcTemplate.queryForObject(H2_UPSERT, Long.class, name, email, provider, now);
+            case GENERIC -> findOrInsert(name, email, provider, now);
+        };
+    }
+
+    private long findOrInsert(String name, String email, String provider, Timestamp now) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_ID, Long.class, email, provider);
+        if (!ids.isEmpty()) {
+            return ids.get(0);
+        }
+        try {
+            return insert(INSERT, name, email, provider, now);
+        } catch (DuplicateKeyException e) {
+            // 동시에 다른 요청이 먼저 생성
+            return jdbcTemplate.queryForObject(SELECT_ID, Long.class, email, provider);
+        }
+    }
+
+    private long insert(String sql, String name, String email, String provider, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            statement.setString(2, email);
+            statement.setString(3, provider);
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+            return statement;
+        }, keyHolder);
+        // ON DUPLICATE KEY UPDATE는 드라이버가 키를 여러 개 돌려줄 수 있으므로 첫 번째만 사용
+        Map<String, Object> keys = keyHolder.getKeyList().get(0);
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+
+    private static Dialect detectDialect(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+            if ("MySQL".equalsIgnoreCase(product)) {
+                return Dialect.MYSQL;
+            }
+            if ("H2".equalsIgnoreCase(product)) {
+                return Dialect.H2;
+            }
+        } catch (Exception e) {
+            log.warn("DB 종류 확인 실패, 조회 후 삽입 방식 사용: {}", e.getMessage());
+        }
+        return Dialect.GENERIC;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cotato.backend.oauth.controller;
+
+import com.cotato.backend.common.jwt.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Auth", description = "인증 API")
+public class JwksController {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    // 다른 서비스가 /api/auth/validate 호출 없이 로컬에서 토큰을 검증하도록 공개키 제공 (RFC 7517 형식 그대로 응답)
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JWT 검증 공개키 (JWKS)", description = "ES256 서명 모드에서 kid별 공개키를 반환합니다.")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+            .body(jwtKeyRing.jwks());
+    }
+}
@@ -4,20 +4,22 @@ import com.cotato.backend.common.dto.response.DataResponse;
 import com.cotato.backend.common.exception.AppException;
 import com.cotato.backend.common.exception.ErrorCode;
 import com.cotato.backend.common.jwt.JwtTokenProvider;
+import com.cotato.backend.common.jwt.LogoutService;
 import com.cotato.backend.common.jwt.RefreshTokenService;
+import com.cotato.backend.common.jwt.RevocationEpochService;
 import com.cotato.backend.common.jwt.TokenBlacklistService;
-import com.cotato.backend.domain.oauth.OAuth2Extractor;
+import com.cotato.backend.common.jwt.UserPrincipal;
+import com.cotato.backend.common.jwt.VerifiedToken;
 import com.cotato.backend.domain.oauth.OAuth2Profile;
-import com.cotato.backend.domain.oauth.OAuth2Provider;
-import com.cotato.backend.domain.user.entity.User;
-import com.cotato.backend.domain.user.repository.UserRepository;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
 import com.cotato.backend.oauth.dto.request.*;
 import com.cotato.backend.oauth.dto.response.*;
-import com.cotato.backend.oauth.service.GoogleOAuthService;
-import com.cotato.backend.oauth.service.KakaoOAuthService;
-import com.cotato.backend.oauth.service.NaverOAuthService;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import com.cotato.backend.oauth.provider.OAuth2ProviderRegistry;
+import com.cotato.backend.oauth.service.OAuth2LoginClient;
 import com.cotato.backend.oauth.service.OAuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -36,99 +37,29 @@ import java.util.Map;
 public class OAuthController {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
-    private final TokenBlacklistService tokenBlacklistService;
+    private final UserPrincipalCache userPrincipalCache;
     private final RefreshTokenService refreshTokenService;
+    private final LogoutService logoutService;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RevocationEpochService revocationEpochService;
     private final OAuthService oAuthService;
-    private final KakaoOAuthService kakaoOAuthService;
-    private final NaverOAuthService naverOAuthService;
-    private final GoogleOAuthService googleOAuthService;
-
-    // 카카오 로그인 콜백
-    @PostMapping("/kakao/callback")
-    @Operation(summary = "카카오 로그인 콜백", description = "프론트엔드에서 받은 인가코드로 JWT 발급")
-    public ResponseEntity<DataResponse<TokenResponse>> kakaoCallback(
-        @RequestBody KakaoCallbackRequest request) {
-
-        log.info("카카오 로그인 콜백 시작 - code: {}, redirectUri: {}", request.getCode(), request.getRedirectUri());
-
-        // 1. 카카오에 액세스 토큰 요청
-        KakaoTokenResponse kakaoToken = kakaoOAuthService.getAccessToken(
-            request.getCode(), // 프론트에서 받은 인가코드
-            request.getRedirectUri() // 프론트에서 받은 리다이렉트 URI (카카오 개발자센터에 등록된 URI와 일치해야 함)
-        );
-
-        // 2. 카카오 사용자 정보 조회
-        KakaoUserInfoResponse kakaoUserInfo = kakaoOAuthService.getUserInfo(kakaoToken.getAccessToken());
-
-        // 3. OAuth2Extractor로 프로필 추출
-        Map<String, Object> attributes = new HashMap<>();
-        attributes.put("id", kakaoUserInfo.getId());
-        attributes.put("kakao_account", kakaoUserInfo.getKakaoAccount());
-
-        OAuth2Profile profile = OAuth2Extractor.extract(OAuth2Provider.KAKAO, attributes);
-        profile.setProvider(OAuth2Provider.KAKAO.getRegistrationId());
-
-        // 4. 유저 조회/생성 + JWT 발급 + Redis 저장
-        return ResponseEntity.ok(DataResponse.from(oAuthService.processLogin(profile)));
-    }
-
-    // 네이버 로그인 콜백
-    @PostMapping("/naver/callback")
-    @Operation(summary = "네이버 로그인 콜백", description = "프론트엔드에서 받은 인가코드로 JWT 발급")
-    public ResponseEntity<DataResponse<TokenResponse>> naverCallback(
-        @RequestBody NaverCallbackRequest request) {
-
-        log.info("네이버 로그인 콜백 시작 - code: {}, state: {}, redirectUri: {}",
-            request.getCode(), request.getState(), request.getRedirectUri());
+    private final OAuth2ProviderRegistry oAuth2ProviderRegistry;
+    private final OAuth2LoginClient oAuth2LoginClient;
 
-        // 1. 네이버에 액세스 토큰 요청
-        NaverTokenResponse naverToken = naverOAuthService.getAccessToken(
-            request.getCode(),
-            request.getState(),
-            request.getRedirectUri()
-        );
+    // OAuth 로그인 콜백 (카카오·네이버·구글)
+    @PostMapping("/{provider}/callback")
+    @Operation(summary = "OAuth 로그인 콜백", description = "프론트엔드에서 받은 인가코드로 JWT 발급")
+    public ResponseEntity<DataResponse<TokenResponse>> callback(
+        @Parameter(description = "제공자 (kakao, naver, google)", example = "kakao") @PathVariable String provider,
+        @RequestBody OAuthCallbackRequest request) {
 
-        // 2. 네이버 사용자 정보 조회
-        NaverUserInfoResponse naverUserInfo = naverOAuthService.getUserInfo(naverToken.getAccessToken());
+        OAuth2ProviderClient client = oAuth2ProviderRegistry.get(provider);
+        log.info("{} 로그인 콜백 시작 - code: {}, redirectUri: {}", provider, request.getCode(), request.getRedirectUri());
 
-        // 3. OAuth2Extractor로 프로필 추출
-        Map<String, Object> attributes = new HashMap<>();
-        attributes.put("response", naverUserInfo.getResponse());
+        // 1~2. 토큰 교환 + 프로필 추출 (id_token 검증 또는 사용자 정보 조회)
+        OAuth2Profile profile = oAuth2LoginClient.fetchProfile(client, request);
 
-        OAuth2Profile profile = OAuth2Extractor.extract(OAuth2Provider.NAVER, attributes);
-        profile.setProvider(OAuth2Provider.NAVER.getRegistrationId());
-
-        // 4. 유저 조회/생성 + JWT 발급 + Redis 저장
-        return ResponseEntity.ok(DataResponse.from(oAuthService.processLogin(profile)));
-    }
-
-    // 구글 로그인 콜백
-    @PostMapping("/google/callback")
-    @Operation(summary = "구글 로그인 콜백", description = "프론트엔드에서 받은 인가코드로 JWT 발급")
-    public ResponseEntity<DataResponse<TokenResponse>> googleCallback(
-        @RequestBody GoogleCallbackRequest request) {
-
-        log.info("구글 로그인 콜백 시작 - code: {}, redirectUri: {}", request.getCode(), request.getRedirectUri());
-
-        // 1. 구글에 액세스 토큰 요청
-        GoogleTokenResponse googleToken = googleOAuthService.getAccessToken(
-            request.getCode(),
-            request.getRedirectUri()
-        );
-
-        // 2. 구글 사용자 정보 조회
-        GoogleUserInfoResponse googleUserInfo = googleOAuthService.getUserInfo(googleToken.getAccessToken());
-
-        // 3. OAuth2Extractor로 프로필 추출
-        Map<String, Object> attributes = new HashMap<>();
-        attributes.put("name", googleUserInfo.getName());
-        attributes.put("email", googleUserInfo.getEmail());
-
-        OAuth2Profile profile = OAuth2Extractor.extract(OAuth2Provider.GOOGLE, attributes);
-        profile.setProvider(OAuth2Provider.GOOGLE.getRegistrationId());
-
-        // 4. 유저 조회/생성 + JWT 발급 + Redis 저장
+        // 3. 유저 조회/생성 + JWT 발급 + Redis 저장
         return ResponseEntity.ok(DataResponse.from(oAuthService.processLogin(profile)));
     }
 
@@ -136,55 +67,62 @@ public class OAuthController {
     @PostMapping("/refresh")
     @Operation(summary = "토큰 갱신", description = "Refresh Token을 사용하여 새로운 Access Token과 Refresh Token을 발급받습니다.")
     public ResponseEntity<DataResponse<TokenResponse>> refresh(
-        @RequestHeader("Authorization") String refreshToken) {
+        @RequestHeader("Authorization") String refreshToken,
+        @Parameter(hidden = true) @RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE, required = false) VerifiedToken verifiedToken) {
 
         String token = refreshToken.replace("Bearer ", "");
 
-        if (!jwtTokenProvider.validateToken(token)) {
+        VerifiedToken verified = resolveVerifiedToken(verifiedToken, token).orElse(null);
+        if (verified == null) {
             log.warn("유효하지 않은 Refresh Token으로 갱신 시도");
             return ResponseEntity.status(401).build();
         }
 
-        if (!jwtTokenProvider.isRefreshToken(token)) {
+        if (!verified.isRefreshToken()) {
             log.warn("Refresh Token이 아닌 토큰으로 갱신 시도");
             return ResponseEntity.status(401).build();
         }
 
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
-
-        // 화이트리스트 검증: Redis에 저장된 토큰과 일치해야 유효
-        if (!refreshTokenService.validate(userId, token)) {
-            log.warn("Redis에 저장된 Refresh Token과 불일치 - 탈취 또는 이미 사용된 토큰, userId: {}", userId);
-            return ResponseEntity.status(401).build();
-        }
+        Long userId = verified.getUserId();
 
-        User user = userRepository.findById(userId)
+        UserPrincipal principal = userPrincipalCache.get(userId)
             .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        // 세션(sid)은 로테이션해도 유지, sid가 없는 이전 형식 토큰은 새 세션으로 전환
+        String sessionId = verified.getSessionId() != null
+            ? verified.getSessionId()
+            : refreshTokenService.newSessionId();
 
-        // 새 Refresh Token으로 교체 (토큰 로테이션)
-        refreshTokenService.save(user.getId(), newRefreshToken);
+        String newAccessToken = jwtTokenProvider.createAccessToken(principal);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(principal.getId(), sessionId);
+
+        // 화이트리스트 검증 + 새 Refresh Token으로 교체를 원자적으로 (동시 갱신 중 하나만 성공)
+        boolean rotated = verified.getSessionId() != null
+            ? refreshTokenService.rotate(userId, sessionId, token, newRefreshToken)
+            : refreshTokenService.migrateLegacy(userId, token, sessionId, newRefreshToken);
+        if (!rotated) {
+            log.warn("Redis에 저장된 Refresh Token과 불일치 - 탈취 또는 이미 사용된 토큰, userId: {}", userId);
+            return ResponseEntity.status(401).build();
+        }
 
         log.info("토큰 갱신 완료 - userId: {}", userId);
         return ResponseEntity.ok(DataResponse.from(TokenResponse.of(newAccessToken, newRefreshToken)));
     }
 
-    // Token 검증
+    // Token 검증 (서명·만료 + 블랙리스트·일괄 폐기 확인)
     @GetMapping("/validate")
     @Operation(summary = "토큰 검증")
     @SecurityRequirement(name = "accessTokenAuth")
     public ResponseEntity<DataResponse<String>> validateToken(
-        @RequestHeader("Authorization") String token) {
+        @RequestHeader("Authorization") String token,
+        @Parameter(hidden = true) @RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE, required = false) VerifiedToken verifiedToken) {
 
         String jwt = token.replace("Bearer ", "");
-        boolean isValid = jwtTokenProvider.validateToken(jwt);
+        Optional<VerifiedToken> verified = resolveActiveToken(verifiedToken, jwt);
 
-        if (isValid) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-            String email = jwtTokenProvider.getEmailFromToken(jwt);
-            String message = String.format("유효한 토큰입니다. User ID: %d, Email: %s", userId, email);
+        if (verified.isPresent()) {
+            String message = String.format("유효한 토큰입니다. User ID: %d, Email: %s",
+                verified.get().getUserId(), jwtTokenProvider.getEmail(verified.get()));
             return ResponseEntity.ok(DataResponse.from(message));
         } else {
             return ResponseEntity.status(401)
@@ -198,24 +136,45 @@ public class OAuthController {
     @SecurityRequirement(name = "accessTokenAuth")
     public ResponseEntity<DataResponse<String>> logout(
         @RequestHeader("Authorization") String accessToken,
+        @Parameter(hidden = true) @RequestAttribute(name = VerifiedToken.REQUEST_ATTRIBUTE, required = false) VerifiedToken verifiedToken,
         @RequestBody LogoutRequest logoutRequest) {
 
         String access = accessToken.replace("Bearer ", "");
         String refresh = logoutRequest.getRefreshToken();
 
         // Access Token 블랙리스트 등록 (만료 전까지 재사용 차단)
-        if (jwtTokenProvider.validateToken(access)) {
-            long accessExpiration = jwtTokenProvider.getRemainingExpiration(access);
-            tokenBlacklistService.addToBlacklist(access, accessExpiration);
+        // + 이 기기의 Refresh Token 세션 삭제 (즉시 갱신 불가 처리)를 한 번의 Redis 왕복으로
+        VerifiedToken verifiedAccess = resolveVerifiedToken(verifiedToken, access).orElse(null);
+        VerifiedToken verifiedRefresh = refresh != null
+            ? jwtTokenProvider.verify(refresh).filter(VerifiedToken::isRefreshToken).orElse(null)
+            : null;
+        // 다른 사용자의 Refresh Token으로 그 사용자의 세션을 지우지 못하도록 거부
+        if (verifiedAccess != null && verifiedRefresh != null
+            && !verifiedAccess.getUserId().equals(verifiedRefresh.getUserId())) {
+            log.warn("Access Token과 다른 사용자의 Refresh Token으로 로그아웃 시도 - userId: {}", verifiedAccess.getUserId());
+            return ResponseEntity.status(401)
+                .body(DataResponse.from("유효하지 않은 토큰입니다."));
         }
+        logoutService.logout(verifiedAccess, verifiedRefresh);
 
-        // Refresh Token 화이트리스트에서 삭제 (즉시 갱신 불가 처리)
-        if (refresh != null && jwtTokenProvider.validateToken(refresh)) {
-            Long userId = jwtTokenProvider.getUserIdFromToken(refresh);
-            refreshTokenService.delete(userId);
+        return ResponseEntity.ok(DataResponse.from("로그아웃 되었습니다."));
+    }
+
+    // 필터가 이미 검증한 토큰이면 재사용, 아니면 직접 검증
+    private Optional<VerifiedToken> resolveVerifiedToken(VerifiedToken verifiedToken, String token) {
+        if (verifiedToken != null && verifiedToken.getToken().equals(token)) {
+            return Optional.of(verifiedToken);
         }
+        return jwtTokenProvider.verify(token);
+    }
 
-        log.info("로그아웃 처리 완료");
-        return ResponseEntity.ok(DataResponse.from("로그아웃 되었습니다."));
+    // 필터가 보관한 토큰은 이미 폐기 확인을 통과했으므로 재사용, 아니면 검증 후 블랙리스트·일괄 폐기 확인
+    private Optional<VerifiedToken> resolveActiveToken(VerifiedToken verifiedToken, String token) {
+        if (verifiedToken != null && verifiedToken.getToken().equals(token)) {
+            return Optional.of(verifiedToken);
+        }
+        return jwtTokenProvider.verify(token)
+            .filter(verified -> !tokenBlacklistService.isBlacklisted(verified))
+            .filter(verified -> !revocationEpochService.isRevoked(verified));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.cotato.backend.oauth.controller;
+
+import com.cotato.backend.common.dto.response.DataResponse;
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.common.jwt.JwtTokenProvider;
+import com.cotato.backend.common.jwt.ReactiveTokenService;
+import com.cotato.backend.common.jwt.RefreshTokenService;
+import com.cotato.backend.common.jwt.UserPrincipal;
+import com.cotato.backend.common.jwt.VerifiedToken;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.cotato.backend.oauth.dto.response.TokenResponse;
+import com.cotato.backend.oauth.provider.OAuth2ProviderRegistry;
+import com.cotato.backend.oauth.service.OAuthService;
+import com.cotato.backend.oauth.service.ReactiveOAuthClient;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * /api/auth 로그인·갱신·검증의 논블로킹 버전 (app.reactive-auth.enabled=true)
+ * - Mono를 반환하면 MVC 비동기 처리로 요청 스레드가 즉시 반환되고, 응답은 Netty/Lettuce 이벤트 루프에서 완성
+ * - 제공자 호출(WebClient)과 Redis(리액티브 Lettuce)는 스레드를 점유하지 않음
+ * - DB 유저 upsert(캐시 미스 시), 캐시에 없는 principal 조회만 boundedElastic 스레드로 넘긴다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/reactive/auth")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reactive-auth.enabled", havingValue = "true")
+@Tag(name = "Auth (Reactive)", description = "논블로킹 인증 API")
+public class ReactiveOAuthController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final ReactiveTokenService reactiveTokenService;
+    private final OAuthService oAuthService;
+    private final OAuth2ProviderRegistry oAuth2ProviderRegistry;
+    private final ReactiveOAuthClient reactiveOAuthClient;
+
+    // OAuth 로그인 콜백 (카카오·네이버·구글)
+    @PostMapping("/{provider}/callback")
+    @Operation(summary = "OAuth 로그인 콜백 (논블로킹)")
+    public Mono<ResponseEntity<DataResponse<TokenResponse>>> callback(
+        @Parameter(description = "제공자 (kakao, naver, google)", example = "kakao") @PathVariable String provider,
+        @RequestBody OAuthCallbackRequest request) {
+        return login(reactiveOAuthClient.fetchProfile(oAuth2ProviderRegistry.get(provider), request));
+    }
+
+    // Token 갱신
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 갱신 (논블로킹)")
+    public Mono<ResponseEntity<DataResponse<TokenResponse>>> refresh(@RequestHeader("Authorization") String refreshToken) {
+        String token = refreshToken.replace("Bearer ", "");
+
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElse(null);
+        if (verified == null || !verified.isRefreshToken()) {
+            log.warn("유효하지 않은 Refresh Token으로 갱신 시도");
+            return Mono.just(ResponseEntity.status(401).<DataResponse<TokenResponse>>build());
+        }
+
+        Long userId = verified.getUserId();
+        // 세션(sid)은 로테이션해도 유지, sid가 없는 이전 형식 토큰은 새 세션으로 전환
+        String sessionId = verified.getSessionId() != null
+            ? verified.getSessionId()
+            : refreshTokenService.newSessionId();
+
+        return principal(userId)
+            .switchIfEmpty(Mono.error(() -> new AppException(ErrorCode.USER_NOT_FOUND)))
+            .flatMap(principal -> {
+                String newAccessToken = jwtTokenProvider.createAccessToken(principal);
+                String newRefreshToken = jwtTokenProvider.createRefreshToken(userId, sessionId);
+
+                Mono<Boolean> rotated = verified.getSessionId() != null
+                    ? reactiveTokenService.rotate(userId, sessionId, token, newRefreshToken)
+                    : reactiveTokenService.migrateLegacy(userId, token, sessionId, newRefreshToken);
+                return rotated.map(success -> {
+                    if (!success) {
+                        log.warn("Redis에 저장된 Refresh Token과 불일치 - 탈취 또는 이미 사용된 토큰, userId: {}", userId);
+                        return ResponseEntity.status(401).<DataResponse<TokenResponse>>build();
+                    }
+                    log.info("토큰 갱신 완료 - userId: {}", userId);
+                    return ResponseEntity.ok(DataResponse.from(TokenResponse.of(newAccessToken, newRefreshToken)));
+                });
+            });
+    }
+
+    // Token 검증 (서명·만료 + 블랙리스트·일괄 폐기 확인)
+    @GetMapping("/validate")
+    @Operation(summary = "토큰 검증 (논블로킹)")
+    @SecurityRequirement(name = "accessTokenAuth")
+    public Mono<ResponseEntity<DataResponse<String>>> validateToken(@RequestHeader("Authorization") String token) {
+        VerifiedToken verified = jwtTokenProvider.verify(token.replace("Bearer ", "")).orElse(null);
+        if (verified == null) {
+            return Mono.just(invalidToken());
+        }
+
+        return reactiveTokenService.isRevoked(verified)
+            .flatMap(revoked -> revoked ? Mono.just(invalidToken()) : email(verified)
+                .defaultIfEmpty("null")
+                .map(email -> ResponseEntity.ok(DataResponse.from(
+                    String.format("유효한 토큰입니다. User ID: %d, Email: %s", verified.getUserId(), email)))));
+    }
+
+    // 유저 조회/생성(DB) → JWT 발급 → Refresh Token 저장(리액티브 Redis)
+    private Mono<ResponseEntity<DataResponse<TokenResponse>>> login(Mono<OAuth2Profile> profile) {
+        return profile
+            .publishOn(Schedulers.boundedElastic())
+            .map(oAuthService::resolveUser)
+            .flatMap(principal -> {
+                String accessToken = jwtTokenProvider.createAccessToken(principal);
+                // 로그인마다 새 세션 (다른 기기의 세션은 유지)
+                String sessionId = refreshTokenService.newSessionId();
+                String refreshToken = jwtTokenProvider.createRefreshToken(principal.getId(), sessionId);
+                return reactiveTokenService.save(principal.getId(), sessionId, refreshToken)
+                    .thenReturn(TokenResponse.of(accessToken, refreshToken));
+            })
+            .map(tokens -> ResponseEntity.ok(DataResponse.from(tokens)));
+    }
+
+    // 캐시에 있으면 바로, 없으면 DB 조회를 boundedElastic에서
+    private Mono<UserPrincipal> principal(Long userId) {
+        return userPrincipalCache.getIfCached(userId)
+            .map(Mono::just)
+            .orElseGet(() -> Mono.fromCallable(() -> userPrincipalCache.get(userId).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    // 클레임에 이메일이 없는 토큰(COMPACT 프로필)은 principal에서
+    private Mono<String> email(VerifiedToken verified) {
+        return verified.getEmail() != null
+            ? Mono.just(verified.getEmail())
+            : principal(verified.getUserId()).map(UserPrincipal::getEmail);
+    }
+
+    private static ResponseEntity<DataResponse<String>> invalidToken() {
+        return ResponseEntity.status(401).body(DataResponse.from("유효하지 않은 토큰입니다."));
+    }
+}
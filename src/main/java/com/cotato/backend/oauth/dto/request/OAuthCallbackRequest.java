@@ -0,0 +1,24 @@
+package com.cotato.backend.oauth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "OAuth 로그인 콜백 요청 (카카오·네이버·구글 공통)")
+public class OAuthCallbackRequest {
+
+    @Schema(description = "제공자 인가코드", example = "abc123def456...")
+    private String code;
+
+    @Schema(description = "프론트엔드 콜백 URI (제공자 개발자센터에 등록된 URI와 일치해야 함)", example = "http://localhost:3000/callback")
+    private String redirectUri;
+
+    @Schema(description = "state 파라미터 (CSRF 방지, 네이버 필수)", example = "random_state_string")
+    private String state;
+}
@@ -1,22 +0,0 @@
-package com.cotato.backend.oauth.dto.response;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-
-@Getter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class KakaoUserInfoResponse {
-
-    @JsonProperty("id")
-    private Long id;
-
-    @JsonProperty("kakao_account")
-    private Map<String, Object> kakaoAccount;
-}
@@ -1,25 +0,0 @@
-package com.cotato.backend.oauth.dto.response;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-
-import java.util.Map;
-
-@Getter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class NaverUserInfoResponse {
-
-    @JsonProperty("resultcode")
-    private String resultCode;
-
-    @JsonProperty("message")
-    private String message;
-
-    @JsonProperty("response")
-    private Map<String, Object> response;
-}
@@ -0,0 +1,73 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+
+// 구글: {"id": ..., "email": ..., "name": ..., "picture": ...}
+@Component
+public class GoogleOAuth2Client implements OAuth2ProviderClient {
+
+    private static final String[] NAME_PATH = {"name"};
+    private static final String[] EMAIL_PATH = {"email"};
+
+    @Value("${GOOGLE_CLIENT_ID}")
+    private String clientId;
+
+    @Value("${GOOGLE_CLIENT_SECRET}")
+    private String clientSecret;
+
+    @Value("${app.oauth.google.token-url:https://oauth2.googleapis.com/token}")
+    private String tokenUrl;
+
+    @Value("${app.oauth.google.user-info-url:https://www.googleapis.com/oauth2/v2/userinfo}")
+    private String userInfoUrl;
+
+    @Override
+    public OAuth2Provider provider() {
+        return OAuth2Provider.GOOGLE;
+    }
+
+    @Override
+    public String clientId() {
+        return clientId;
+    }
+
+    @Override
+    public String tokenUrl() {
+        return tokenUrl;
+    }
+
+    @Override
+    public String userInfoUrl() {
+        return userInfoUrl;
+    }
+
+    @Override
+    public MultiValueMap<String, String> tokenParams(OAuthCallbackRequest request) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", clientId);
+        params.add("client_secret", clientSecret);
+        params.add("code", request.getCode());
+        params.add("redirect_uri", request.getRedirectUri());
+        return params;
+    }
+
+    @Override
+    public OAuth2Profile readProfile(JsonParser parser) throws IOException {
+        return ProviderJson.readProfile(parser, OAuth2Provider.GOOGLE, NAME_PATH, EMAIL_PATH);
+    }
+
+    @Override
+    public String idTokenNameClaim() {
+        return "name";
+    }
+}
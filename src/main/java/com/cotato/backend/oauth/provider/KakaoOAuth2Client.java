@@ -0,0 +1,77 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+
+// 카카오: {"id": ..., "kakao_account": {"email": ..., "profile": {"nickname": ...}}}
+@Component
+public class KakaoOAuth2Client implements OAuth2ProviderClient {
+
+    private static final String[] NAME_PATH = {"kakao_account", "profile", "nickname"};
+    private static final String[] EMAIL_PATH = {"kakao_account", "email"};
+
+    @Value("${KAKAO_CLIENT_ID}")
+    private String clientId;
+
+    @Value("${KAKAO_CLIENT_SECRET:}")
+    private String clientSecret;
+
+    // 부하 테스트 등에서 제공자 스텁으로 바꿀 수 있도록 설정으로 분리
+    @Value("${app.oauth.kakao.token-url:https://kauth.kakao.com/oauth/token}")
+    private String tokenUrl;
+
+    @Value("${app.oauth.kakao.user-info-url:https://kapi.kakao.com/v2/user/me}")
+    private String userInfoUrl;
+
+    @Override
+    public OAuth2Provider provider() {
+        return OAuth2Provider.KAKAO;
+    }
+
+    @Override
+    public String clientId() {
+        return clientId;
+    }
+
+    @Override
+    public String tokenUrl() {
+        return tokenUrl;
+    }
+
+    @Override
+    public String userInfoUrl() {
+        return userInfoUrl;
+    }
+
+    @Override
+    public MultiValueMap<String, String> tokenParams(OAuthCallbackRequest request) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", clientId);
+        params.add("redirect_uri", request.getRedirectUri());
+        params.add("code", request.getCode());
+
+        if (clientSecret != null && !clientSecret.isEmpty()) {
+            params.add("client_secret", clientSecret);
+        }
+        return params;
+    }
+
+    @Override
+    public OAuth2Profile readProfile(JsonParser parser) throws IOException {
+        return ProviderJson.readProfile(parser, OAuth2Provider.KAKAO, NAME_PATH, EMAIL_PATH);
+    }
+
+    @Override
+    public String idTokenNameClaim() {
+        return "nickname";
+    }
+}
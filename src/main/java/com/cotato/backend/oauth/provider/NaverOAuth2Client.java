@@ -0,0 +1,68 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+
+// 네이버: {"resultcode": ..., "message": ..., "response": {"id": ..., "name": ..., "email": ...}}
+@Component
+public class NaverOAuth2Client implements OAuth2ProviderClient {
+
+    private static final String[] NAME_PATH = {"response", "name"};
+    private static final String[] EMAIL_PATH = {"response", "email"};
+
+    @Value("${NAVER_CLIENT_ID}")
+    private String clientId;
+
+    @Value("${NAVER_CLIENT_SECRET}")
+    private String clientSecret;
+
+    @Value("${app.oauth.naver.token-url:https://nid.naver.com/oauth2.0/token}")
+    private String tokenUrl;
+
+    @Value("${app.oauth.naver.user-info-url:https://openapi.naver.com/v1/nid/me}")
+    private String userInfoUrl;
+
+    @Override
+    public OAuth2Provider provider() {
+        return OAuth2Provider.NAVER;
+    }
+
+    @Override
+    public String clientId() {
+        return clientId;
+    }
+
+    @Override
+    public String tokenUrl() {
+        return tokenUrl;
+    }
+
+    @Override
+    public String userInfoUrl() {
+        return userInfoUrl;
+    }
+
+    @Override
+    public MultiValueMap<String, String> tokenParams(OAuthCallbackRequest request) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", clientId);
+        params.add("client_secret", clientSecret);
+        params.add("code", request.getCode());
+        params.add("state", request.getState());
+        return params;
+    }
+
+    @Override
+    public OAuth2Profile readProfile(JsonParser parser) throws IOException {
+        return ProviderJson.readProfile(parser, OAuth2Provider.NAVER, NAME_PATH, EMAIL_PATH);
+    }
+}
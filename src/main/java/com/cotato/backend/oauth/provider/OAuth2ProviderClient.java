@@ -0,0 +1,37 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+
+/**
+ * OAuth 제공자 SPI
+ * 제공자별로 다른 부분(엔드포인트, 토큰 교환 파라미터, 사용자 정보 JSON 구조)만 구현하고,
+ * 호출·격리·id_token 검증은 OAuth2LoginClient(동기)·ReactiveOAuthClient(논블로킹)가 공통으로 처리한다.
+ * 구현체를 @Component로 등록하면 OAuth2ProviderRegistry와 /api/auth/{provider}/callback에 자동으로 연결된다.
+ */
+public interface OAuth2ProviderClient {
+
+    OAuth2Provider provider();
+
+    String clientId();
+
+    String tokenUrl();
+
+    String userInfoUrl();
+
+    // 인가코드 → 토큰 교환 요청 파라미터 (form)
+    MultiValueMap<String, String> tokenParams(OAuthCallbackRequest request);
+
+    // 사용자 정보 응답 JSON을 스트리밍으로 읽어 프로필 생성 (중간 Map/DTO 없음)
+    OAuth2Profile readProfile(JsonParser parser) throws IOException;
+
+    // id_token의 이름 클레임 (OIDC 미지원 제공자는 null → 항상 사용자 정보 API 호출)
+    default String idTokenNameClaim() {
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 등록된 OAuth2ProviderClient 구현체 (OAuth2Provider → 구현체, EnumMap 조회)
+ */
+@Component
+public class OAuth2ProviderRegistry {
+
+    private final Map<OAuth2Provider, OAuth2ProviderClient> clients = new EnumMap<>(OAuth2Provider.class);
+
+    public OAuth2ProviderRegistry(List<OAuth2ProviderClient> clients) {
+        for (OAuth2ProviderClient client : clients) {
+            if (this.clients.putIfAbsent(client.provider(), client) != null) {
+                throw new IllegalStateException("제공자 구현체 중복: " + client.provider());
+            }
+        }
+    }
+
+    public OAuth2ProviderClient get(OAuth2Provider provider) {
+        OAuth2ProviderClient client = clients.get(provider);
+        if (client == null) {
+            throw new AppException(ErrorCode.UNSUPPORTED_OAUTH_PROVIDER);
+        }
+        return client;
+    }
+
+    // 경로 변수(registrationId: kakao, naver, google) → 구현체
+    public OAuth2ProviderClient get(String registrationId) {
+        try {
+            return get(OAuth2Provider.valueOf(registrationId.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.UNSUPPORTED_OAUTH_PROVIDER);
+        }
+    }
+}
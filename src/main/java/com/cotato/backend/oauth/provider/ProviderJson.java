@@ -0,0 +1,142 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 제공자 응답 JSON 스트리밍 읽기 (Jackson JsonParser)
+ * 필요한 필드 경로의 문자열만 꺼내고 나머지는 건너뛴다. → 응답 크기와 무관하게 Map/DTO 트리를 만들지 않음
+ */
+public final class ProviderJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_DEPTH = 4; // 이보다 깊은 객체는 건너뜀
+
+    private ProviderJson() {
+    }
+
+    public static JsonParser parser(InputStream body) throws IOException {
+        return JSON_FACTORY.createParser(body);
+    }
+
+    public static JsonParser parser(byte[] body) throws IOException {
+        return JSON_FACTORY.createParser(body);
+    }
+
+    /**
+     * 토큰 교환 응답 (access_token, id_token)
+     * 네이버처럼 200 응답 본문에 error를 담는 제공자는 4xx와 같게 취급 (잘못된 인가코드 등, 제공자 장애 아님)
+     */
+    public static ProviderToken readToken(JsonParser parser) throws IOException {
+        String accessToken = null;
+        String idToken = null;
+        String error = null;
+        expectObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "access_token" -> accessToken = parser.getValueAsString();
+                case "id_token" -> idToken = parser.getValueAsString();
+                case "error" -> error = parser.getValueAsString();
+                default -> {
+                }
+            }
+        }
+        if (accessToken == null) {
+            throw new AppException(ErrorCode.OAUTH_INVALID_GRANT, "토큰 교환 거절: " + error);
+        }
+        return new ProviderToken(accessToken, idToken);
+    }
+
+    /**
+     * 사용자 정보 응답에서 이름·이메일 경로의 문자열을 읽어 프로필 생성
+     * 예: 카카오 이름 {"kakao_account", "profile", "nickname"}
+     */
+    public static OAuth2Profile readProfile(JsonParser parser, OAuth2Provider provider,
+                                            String[] namePath, String[] emailPath) throws IOException {
+        String name = null;
+        String email = null;
+        String[] path = new String[MAX_DEPTH];
+        int depth = 0; // 현재 객체 깊이 (최상위 = 0), path[depth] = 현재 필드 이름
+
+        expectObject(parser);
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case FIELD_NAME -> path[depth] = parser.currentName();
+                case START_OBJECT -> {
+                    if (depth + 1 < MAX_DEPTH) {
+                        depth++;
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case END_OBJECT -> {
+                    if (depth == 0) {
+                        return toProfile(provider, name, email);
+                    }
+                    depth--;
+                }
+                case START_ARRAY -> parser.skipChildren();
+                case VALUE_STRING -> {
+                    if (matches(path, depth, namePath)) {
+                        name = parser.getText();
+                    } else if (matches(path, depth, emailPath)) {
+                        email = parser.getText();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return toProfile(provider, name, email);
+    }
+
+    // 이메일은 계정 식별(upsert 키)에 쓰이므로 필수 - 사용자가 이메일 제공에 동의하지 않았으면 로그인 거부
+    private static OAuth2Profile toProfile(OAuth2Provider provider, String name, String email) {
+        if (name == null && email == null) {
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR,
+                    new IllegalArgumentException(provider.getRegistrationId() + " 프로필 정보를 가져올 수 없습니다."));
+        }
+        if (email == null) {
+            throw new AppException(ErrorCode.OAUTH_EMAIL_REQUIRED);
+        }
+        return OAuth2Profile.builder()
+                .name(name)
+                .email(email)
+                .provider(provider.getRegistrationId())
+                .build();
+    }
+
+    private static boolean matches(String[] path, int depth, String[] target) {
+        if (target.length != depth + 1) {
+            return false;
+        }
+        for (int i = 0; i <= depth; i++) {
+            if (!target[i].equals(path[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR,
+                    new IllegalArgumentException("제공자 응답이 JSON 객체가 아닙니다."));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.cotato.backend.oauth.provider;
+
+/**
+ * 토큰 교환 응답에서 로그인에 필요한 값만
+ * @param idToken openid 스코프로 인가받은 경우에만 존재
+ */
+public record ProviderToken(String accessToken, String idToken) {
+}
@@ -0,0 +1,109 @@
+package com.cotato.backend.oauth.service;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제공자 JWKS 캐시 (stale-while-revalidate)
+ * - ttl 이내: 캐시 사용
+ * - ttl ~ maxStale: 캐시를 그대로 사용하면서 백그라운드에서 한 번만 갱신
+ * - maxStale 초과 또는 최초 조회: 요청 스레드에서 갱신 (동시 요청은 한 번의 조회를 공유)
+ * - 모르는 kid: 제공자 키 교체 직후일 수 있으므로 즉시 갱신 (minRefreshInterval에 한 번까지)
+ */
+@Slf4j
+class JwksCache {
+
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final String jwksUri;
+    private final RestClient restClient;
+    private final Executor refreshExecutor;
+    private final long ttlNanos;
+    private final long maxStaleNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // synchronized 안에서 HTTP 호출을 기다리면 가상 스레드가 캐리어 스레드에 고정되므로 Lock 사용
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    JwksCache(String jwksUri, RestClient restClient, Executor refreshExecutor, Duration ttl, Duration maxStale) {
+        this.jwksUri = jwksUri;
+        this.restClient = restClient;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlNanos = ttl.toNanos();
+        this.maxStaleNanos = maxStale.toNanos();
+    }
+
+    // kid에 해당하는 공개키 (없으면 null)
+    PublicKey get(String keyId) {
+        Snapshot current = snapshot;
+        long now = System.nanoTime();
+        if (current == null || now - current.fetchedAt() > maxStaleNanos) {
+            current = refresh(current);
+        } else if (now - current.fetchedAt() > ttlNanos) {
+            refreshInBackground();
+        }
+
+        PublicKey key = current.keys().get(keyId);
+        if (key == null && now - current.fetchedAt() > MIN_REFRESH_INTERVAL.toNanos()) {
+            key = refresh(current).keys().get(keyId);
+        }
+        return key;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                refresh(snapshot);
+            } catch (RuntimeException e) {
+                log.warn("JWKS 백그라운드 갱신 실패, 기존 키 사용 - {}: {}", jwksUri, e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    // seen 이후 다른 스레드가 이미 갱신했으면 그 결과를 사용
+    private Snapshot refresh(Snapshot seen) {
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null && current != seen) {
+                return current;
+            }
+            String json = restClient.get().uri(jwksUri).retrieve().body(String.class);
+            JwkSet jwkSet = Jwks.setParser().build().parse(json);
+
+            Map<String, PublicKey> keys = new HashMap<>();
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                Key key = jwk.toKey();
+                if (jwk.getId() != null && key instanceof PublicKey publicKey) {
+                    keys.put(jwk.getId(), publicKey);
+                }
+            }
+            snapshot = new Snapshot(Map.copyOf(keys), System.nanoTime());
+            log.info("JWKS 갱신 완료 - {}: 키 {}개", jwksUri, keys.size());
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private record Snapshot(Map<String, PublicKey> keys, long fetchedAt) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import com.cotato.backend.oauth.provider.ProviderJson;
+import com.cotato.backend.oauth.provider.ProviderToken;
+import com.fasterxml.jackson.core.JsonParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * OAuth 로그인 제공자 호출 (동기, 모든 제공자 공통)
+ * 인가코드 → 토큰 교환 → 프로필 (검증된 id_token 또는 사용자 정보 API)
+ * 응답 본문은 스트림에서 바로 읽어 필요한 필드만 꺼낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuth2LoginClient {
+
+    private final RestClient restClient; // 공유 연결 풀 (OAuthHttpClientConfig)
+    private final OidcIdTokenVerifier oidcIdTokenVerifier;
+    private final OAuthProviderGuard oAuthProviderGuard;
+
+    /**
+     * 제공자 호출 전체를 제공자별 동시 호출 한도·차단기·시간 예산 안에서 실행
+     */
+    public OAuth2Profile fetchProfile(OAuth2ProviderClient client, OAuthCallbackRequest request) {
+        return oAuthProviderGuard.execute(client.provider(), () -> {
+            ProviderToken token = getAccessToken(client, request);
+            return oidcIdTokenVerifier.verifyProfile(client, token.idToken())
+                .orElseGet(() -> getUserInfo(client, token.accessToken()));
+        });
+    }
+
+    private ProviderToken getAccessToken(OAuth2ProviderClient client, OAuthCallbackRequest request) {
+        String provider = client.provider().getRegistrationId();
+        log.info("{} 액세스 토큰 요청 시작 - code: {}, redirectUri: {}", provider, request.getCode(), request.getRedirectUri());
+
+        try {
+            ProviderToken token = restClient.post()
+                .uri(client.tokenUrl())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(client.tokenParams(request))
+                .exchange((req, res) -> {
+                    try (JsonParser parser = ProviderJson.parser(successBody(res))) {
+                        return ProviderJson.readToken(parser);
+                    }
+                });
+
+            log.info("{} 액세스 토큰 발급 성공", provider);
+            return token;
+        } catch (AppException e) {
+            log.error("{} 액세스 토큰 요청 실패", provider, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("{} 액세스 토큰 요청 실패", provider, e);
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, e);
+        }
+    }
+
+    private OAuth2Profile getUserInfo(OAuth2ProviderClient client, String accessToken) {
+        String provider = client.provider().getRegistrationId();
+        log.info("{} 사용자 정보 조회 시작", provider);
+
+        try {
+            OAuth2Profile profile = restClient.get()
+                .uri(client.userInfoUrl())
+                .header("Authorization", "Bearer " + accessToken)
+                .exchange((req, res) -> {
+                    try (JsonParser parser = ProviderJson.parser(successBody(res))) {
+                        return client.readProfile(parser);
+                    }
+                });
+
+            log.info("{} 사용자 정보 조회 성공", provider);
+            return profile;
+        } catch (AppException e) {
+            log.error("{} 사용자 정보 조회 실패", provider, e);
+            throw e;
+        } catch (Exception e) {
+            log.error("{} 사용자 정보 조회 실패", provider, e);
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, e);
+        }
+    }
+
+    // 4xx/5xx는 상태 코드를 담은 예외로 (차단기가 4xx를 제공자 장애에서 제외)
+    private static InputStream successBody(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().isError()) {
+            throw new RestClientResponseException("제공자 응답 오류", response.getStatusCode(),
+                response.getStatusText(), response.getHeaders(), null, null);
+        }
+        return response.getBody();
+    }
+}
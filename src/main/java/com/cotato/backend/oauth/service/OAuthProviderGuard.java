@@ -0,0 +1,139 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.config.OAuthHttpProperties;
+import com.cotato.backend.common.config.ProviderDeadline;
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 제공자별 격리 (resilience4j bulkhead·circuitbreaker "oauth-{kakao,naver,google}")
+ * - 동시 호출 수 제한: 한 제공자가 느려져도 그 제공자 콜백만 대기 없이 거절되고, 다른 제공자·API의 요청 스레드는 남는다.
+ * - 차단기: 오류율·느린 호출 비율이 높으면 열려 제공자를 호출하지 않고 즉시 거절
+ * - 시간 예산(app.oauth.http.providers.*.deadline): 토큰 교환 + 사용자 정보 조회 전체에 적용, 남은 시간을 다음 호출에 넘긴다.
+ * 거절·예산 초과는 OAUTH_PROVIDER_UNAVAILABLE(503)
+ * 지표: oauth.provider.saturation(사용 중 비율), oauth.provider.rejected{reason}, resilience4j.bulkhead.*, resilience4j.circuitbreaker.*
+ */
+@Slf4j
+@Component
+public class OAuthProviderGuard {
+
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(4);
+
+    private final Map<OAuth2Provider, Isolation> isolations = new EnumMap<>(OAuth2Provider.class);
+
+    public OAuthProviderGuard(BulkheadRegistry bulkheadRegistry,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              OAuthHttpProperties properties,
+                              MeterRegistry meterRegistry) {
+        for (OAuth2Provider provider : OAuth2Provider.values()) {
+            String id = provider.getRegistrationId();
+            String name = "oauth-" + id;
+            OAuthHttpProperties.Provider config = properties.providers().get(id);
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+            Gauge.builder("oauth.provider.saturation", bulkhead, OAuthProviderGuard::saturation)
+                    .tag("provider", id)
+                    .description("동시 호출 한도 대비 사용 중 비율")
+                    .register(meterRegistry);
+            isolations.put(provider, new Isolation(
+                    bulkhead,
+                    circuitBreakerRegistry.circuitBreaker(name),
+                    config != null ? config.deadline() : DEFAULT_DEADLINE,
+                    rejectedCounter(meterRegistry, id, "bulkhead-full"),
+                    rejectedCounter(meterRegistry, id, "circuit-open"),
+                    rejectedCounter(meterRegistry, id, "deadline")));
+        }
+    }
+
+    /**
+     * 제공자 호출 묶음(토큰 교환 → 프로필)을 격리해 실행
+     * 동기 호출 전용, 호출 스레드에 시간 예산을 설정한다.
+     */
+    public <T> T execute(OAuth2Provider provider, Supplier<T> call) {
+        Isolation isolation = isolations.get(provider);
+        Supplier<T> guarded = Bulkhead.decorateSupplier(isolation.bulkhead(),
+                CircuitBreaker.decorateSupplier(isolation.circuitBreaker(),
+                        () -> ProviderDeadline.within(isolation.deadline(), call)));
+        try {
+            return guarded.get();
+        } catch (BulkheadFullException | CallNotPermittedException ex) {
+            throw reject(provider, isolation, ex);
+        } catch (AppException ex) {
+            if (isTimeout(ex.getCause())) {
+                throw reject(provider, isolation, ex.getCause());
+            }
+            throw ex;
+        }
+    }
+
+    // 리액티브 버전: 시간 예산은 Mono.timeout
+    public <T> Mono<T> execute(OAuth2Provider provider, Mono<T> call) {
+        Isolation isolation = isolations.get(provider);
+        return call
+                .timeout(isolation.deadline())
+                .transformDeferred(CircuitBreakerOperator.of(isolation.circuitBreaker()))
+                .transformDeferred(BulkheadOperator.of(isolation.bulkhead()))
+                .onErrorMap(ex -> ex instanceof BulkheadFullException || ex instanceof CallNotPermittedException
+                                || ex instanceof TimeoutException,
+                        ex -> reject(provider, isolation, ex));
+    }
+
+    private AppException reject(OAuth2Provider provider, Isolation isolation, Throwable reason) {
+        if (reason instanceof BulkheadFullException) {
+            isolation.bulkheadFull().increment();
+        } else if (reason instanceof CallNotPermittedException) {
+            isolation.circuitOpen().increment();
+        } else {
+            isolation.deadlineExceeded().increment();
+        }
+        log.warn("{} 로그인 제공자 호출 거절 - {}", provider.getRegistrationId(), reason.getClass().getSimpleName());
+        return new AppException(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE, reason);
+    }
+
+    private static boolean isTimeout(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof ProviderDeadline.ExceededException || t instanceof InterruptedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double saturation(Bulkhead bulkhead) {
+        int max = bulkhead.getMetrics().getMaxAllowedConcurrentCalls();
+        return max == 0 ? 0.0 : 1.0 - (double) bulkhead.getMetrics().getAvailableConcurrentCalls() / max;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String provider, String reason) {
+        return Counter.builder("oauth.provider.rejected")
+                .tag("provider", provider)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Isolation(Bulkhead bulkhead, CircuitBreaker circuitBreaker, Duration deadline,
+                             Counter bulkheadFull, Counter circuitOpen, Counter deadlineExceeded) {
+    }
+}
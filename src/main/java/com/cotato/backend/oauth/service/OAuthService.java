@@ -1,10 +1,14 @@
 package com.cotato.backend.oauth.service;
 
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
 import com.cotato.backend.common.jwt.JwtTokenProvider;
 import com.cotato.backend.common.jwt.RefreshTokenService;
+import com.cotato.backend.common.jwt.UserPrincipal;
 import com.cotato.backend.domain.oauth.OAuth2Profile;
-import com.cotato.backend.domain.user.entity.User;
-import com.cotato.backend.domain.user.repository.UserRepository;
+import com.cotato.backend.domain.user.repository.UserIdentityCache;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import com.cotato.backend.domain.user.repository.UserUpsertRepository;
 import com.cotato.backend.oauth.dto.response.TokenResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +19,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class OAuthService {
 
-    private final UserRepository userRepository;
+    private final UserUpsertRepository userUpsertRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final UserPrincipalCache userPrincipalCache;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
 
@@ -23,19 +29,43 @@ public class OAuthService {
      * OAuth 로그인 공통 처리: 유저 조회/생성 → JWT 발급 → Refresh Token Redis 저장
      */
     public TokenResponse processLogin(OAuth2Profile profile) {
-        User user = userRepository.findByEmailAndProvider(profile.getEmail(), profile.getProvider())
-            .orElseGet(() -> {
-                User newUser = profile.toUser();
-                return userRepository.save(newUser);
-            });
+        UserPrincipal principal = resolveUser(profile);
 
-        log.info("사용자 로그인 성공 - userId: {}, email: {}", user.getId(), user.getEmail());
+        String accessToken = jwtTokenProvider.createAccessToken(principal);
+        // 로그인마다 새 세션 (다른 기기의 세션은 유지)
+        String sessionId = refreshTokenService.newSessionId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(principal.getId(), sessionId);
 
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
-
-        refreshTokenService.save(user.getId(), refreshToken);
+        refreshTokenService.save(principal.getId(), sessionId, refreshToken);
 
         return TokenResponse.of(accessToken, refreshToken);
     }
+
+    /**
+     * 프로필의 (제공자, 이메일)로 유저 조회, 없으면 생성 (upsert 한 문장)
+     * 재로그인은 식별자 캐시 + 사용자 캐시로 DB를 거치지 않는다.
+     */
+    public UserPrincipal resolveUser(OAuth2Profile profile) {
+        UserPrincipal principal = loadPrincipal(profile);
+        if (principal == null) {
+            // 캐시된 id의 사용자가 삭제되었거나 이메일이 바뀜 → 매핑을 버리고 한 번 더 upsert
+            userIdentityCache.invalidate(profile.getProvider(), profile.getEmail());
+            principal = loadPrincipal(profile);
+        }
+        if (principal == null) {
+            throw new AppException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        log.info("사용자 로그인 성공 - userId: {}, email: {}", principal.getId(), principal.getEmail());
+        return principal;
+    }
+
+    private UserPrincipal loadPrincipal(OAuth2Profile profile) {
+        long userId = userIdentityCache.get(profile.getProvider(), profile.getEmail(),
+            () -> userUpsertRepository.upsert(profile.getName(), profile.getEmail(), profile.getProvider()));
+        return userPrincipalCache.get(userId)
+            .filter(principal -> principal.getEmail().equals(profile.getEmail())
+                && principal.getProvider().equals(profile.getProvider()))
+            .orElse(null);
+    }
 }
@@ -0,0 +1,148 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * OIDC id_token 로컬 검증 (구글, 카카오)
+ * - 토큰 교환 응답의 id_token을 제공자 JWKS로 서명 검증 + iss/aud/exp 확인 (파서는 제공자별로 한 번 생성)
+ * - 검증된 클레임에 확인된 이메일(email_verified=true)과 이름이 있으면 사용자 정보 API 호출을 생략할 수 있다.
+ * 인가 요청(프론트엔드)에 openid 스코프가 포함되어야 id_token이 발급된다. (카카오는 OpenID Connect 활성화 필요)
+ */
+@Slf4j
+@Component
+public class OidcIdTokenVerifier {
+
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
+    private record Issuer(String jwksUri, Set<String> issuers) {
+    }
+
+    private static final Map<OAuth2Provider, Issuer> ISSUERS = Map.of(
+            OAuth2Provider.GOOGLE, new Issuer("https://www.googleapis.com/oauth2/v3/certs",
+                    Set.of("https://accounts.google.com", "accounts.google.com")),
+            OAuth2Provider.KAKAO, new Issuer("https://kauth.kakao.com/.well-known/jwks.json",
+                    Set.of("https://kauth.kakao.com")));
+
+    private final boolean enabled;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "oidc-jwks-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 생성 후 읽기 전용 (키는 제공자 JWKS 캐시에서 조회, aud·iss는 검증 후 확인)
+    private final Map<OAuth2Provider, JwtParser> parsers = new EnumMap<>(OAuth2Provider.class);
+
+    public OidcIdTokenVerifier(
+            RestClient restClient,
+            @Value("${app.oauth.oidc.enabled:false}") boolean enabled,
+            @Value("${app.oauth.oidc.jwks-ttl:1h}") Duration jwksTtl,
+            @Value("${app.oauth.oidc.jwks-max-stale:24h}") Duration jwksMaxStale) {
+        this.enabled = enabled;
+        ISSUERS.forEach((provider, issuer) -> {
+            JwksCache jwksCache = new JwksCache(issuer.jwksUri(), restClient, refreshExecutor, jwksTtl, jwksMaxStale);
+            parsers.put(provider, Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            return jwksCache.get(header.getKeyId());
+                        }
+                    })
+                    .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                    .build());
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 검증된 id_token 클레임으로 프로필 생성
+     * 이메일·이름 중 하나라도 없거나 제공자가 이메일을 확인하지 않았으면(email_verified != true) empty
+     * → 호출 측은 사용자 정보 API로 대체 (확인되지 않은 이메일로 다른 사용자 계정에 연결되지 않도록)
+     */
+    public Optional<OAuth2Profile> verifyProfile(OAuth2ProviderClient client, String idToken) {
+        String nameClaim = client.idTokenNameClaim();
+        if (nameClaim == null) {
+            return Optional.empty();
+        }
+        Optional<Claims> claims = verify(client.provider(), idToken, client.clientId());
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+        String email = claims.get().get("email", String.class);
+        String name = claims.get().get(nameClaim, String.class);
+        if (email == null || name == null) {
+            return Optional.empty();
+        }
+        if (!isEmailVerified(claims.get().get("email_verified"))) {
+            log.info("{} id_token 이메일 미확인, 사용자 정보 API로 대체", client.provider().getRegistrationId());
+            return Optional.empty();
+        }
+        log.info("{} id_token으로 프로필 생성 (사용자 정보 조회 생략)", client.provider().getRegistrationId());
+        return Optional.of(OAuth2Profile.builder()
+                .name(name)
+                .email(email)
+                .provider(client.provider().getRegistrationId())
+                .build());
+    }
+
+    /**
+     * id_token 검증
+     * @param clientId 우리 앱의 client id (aud)
+     * @return 검증된 클레임, 비활성화·id_token 없음·검증 실패 시 empty (호출 측은 사용자 정보 API로 대체)
+     */
+    public Optional<Claims> verify(OAuth2Provider provider, String idToken, String clientId) {
+        Issuer issuer = ISSUERS.get(provider);
+        if (!enabled || issuer == null || idToken == null || idToken.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            Claims claims = parsers.get(provider).parseSignedClaims(idToken).getPayload();
+
+            if (!issuer.issuers().contains(claims.getIssuer())) {
+                log.warn("{} id_token 발급자 불일치: {}", provider.getRegistrationId(), claims.getIssuer());
+                return Optional.empty();
+            }
+            if (claims.getAudience() == null || !claims.getAudience().contains(clientId)) {
+                log.warn("{} id_token 대상 불일치: {}", provider.getRegistrationId(), claims.getAudience());
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("{} id_token 검증 실패: {}", provider.getRegistrationId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("{} JWKS 조회 실패, 사용자 정보 API로 대체: {}", provider.getRegistrationId(), e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    // 구글은 boolean, 일부 제공자는 문자열 "true"
+    private static boolean isEmailVerified(Object claim) {
+        return Boolean.TRUE.equals(claim) || "true".equals(claim);
+    }
+}
@@ -0,0 +1,32 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.exception.AppException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * 제공자 차단기(resilience4j "oauth-*")가 실패로 기록할 예외
+ * 제공자의 4xx 응답(잘못된/만료된 인가코드 등)과 4xx 에러 코드(이메일 미동의 등)는 사용자 입력 문제이므로 제외하고,
+ * 연결 실패·시간 초과·5xx만 제공자 장애로 본다.
+ */
+public class ProviderFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof AppException ex && ex.getErrorCode().getHttpStatus().is4xxClientError()) {
+            return false;
+        }
+        Throwable cause = throwable instanceof AppException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof RestClientResponseException ex) {
+            return !ex.getStatusCode().is4xxClientError();
+        }
+        if (cause instanceof WebClientResponseException ex) {
+            return !ex.getStatusCode().is4xxClientError();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.config.OAuthHttpProperties;
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import com.cotato.backend.oauth.provider.ProviderJson;
+import com.cotato.backend.oauth.provider.ProviderToken;
+import com.fasterxml.jackson.core.JsonParser;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OAuth 제공자 호출의 논블로킹 버전 (Reactor Netty)
+ * - 응답을 기다리는 동안 스레드를 점유하지 않으므로 적은 이벤트 루프 스레드로 많은 제공자 호출을 동시에 유지
+ * - HTTPS 제공자는 HTTP/2(ALPN) 우선, 미지원 시 HTTP/1.1 keep-alive
+ * - 요청 파라미터·URL·프로필 추출은 동기 경로(OAuth2LoginClient)와 같은 OAuth2ProviderClient 사용
+ * - 연결 수·응답 시간 제한은 app.oauth.http 설정을 따른다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reactive-auth.enabled", havingValue = "true")
+public class ReactiveOAuthClient {
+
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private final OidcIdTokenVerifier oidcIdTokenVerifier;
+    private final OAuthProviderGuard oAuthProviderGuard;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Map<String, Duration> readTimeoutByHost = new HashMap<>();
+
+    public ReactiveOAuthClient(OidcIdTokenVerifier oidcIdTokenVerifier,
+                               OAuthProviderGuard oAuthProviderGuard,
+                               OAuthHttpProperties properties) {
+        this.oidcIdTokenVerifier = oidcIdTokenVerifier;
+        this.oAuthProviderGuard = oAuthProviderGuard;
+
+        Duration connectTimeout = Duration.ofSeconds(1);
+        for (OAuthHttpProperties.Provider provider : properties.providers().values()) {
+            provider.hosts().forEach(host -> readTimeoutByHost.put(
+                    OAuthHttpProperties.Provider.endpoint(host).getHost(), provider.readTimeout()));
+            if (provider.connectTimeout().compareTo(connectTimeout) > 0) {
+                connectTimeout = provider.connectTimeout();
+            }
+        }
+
+        // HTTP/2는 연결 하나에 여러 요청을 다중화하므로 max-connections는 연결 수 상한, 대기 요청은 제한 없음
+        this.connectionProvider = ConnectionProvider.builder("oauth-reactive")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(properties.connectionRequestTimeout())
+                .maxIdleTime(properties.idleTimeout())
+                .maxLifeTime(properties.connectionTimeToLive())
+                .evictInBackground(properties.idleTimeout())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    // 인가코드 → 토큰 교환 → 프로필 (검증된 id_token 또는 사용자 정보 API)
+    public Mono<OAuth2Profile> fetchProfile(OAuth2ProviderClient client, OAuthCallbackRequest request) {
+        return exchange(client, request)
+                .flatMap(token -> verifiedIdToken(client, token.idToken())
+                        .switchIfEmpty(Mono.defer(() -> userInfo(client, token.accessToken()))))
+                .onErrorMap(ex -> !(ex instanceof AppException), ex -> providerError(client, ex))
+                .transform(call -> oAuthProviderGuard.execute(client.provider(), call));
+    }
+
+    // 응답 본문 바이트를 스트리밍 파서로 바로 읽는다 (DTO 트리 없음)
+    private Mono<ProviderToken> exchange(OAuth2ProviderClient client, OAuthCallbackRequest request) {
+        return webClient.post()
+                .uri(client.tokenUrl())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(client.tokenParams(request)))
+                .httpRequest(httpRequest -> applyReadTimeout(httpRequest.getNativeRequest(), client.tokenUrl()))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .handle((body, sink) -> {
+                    try (JsonParser parser = ProviderJson.parser(body)) {
+                        sink.next(ProviderJson.readToken(parser));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                });
+    }
+
+    private Mono<OAuth2Profile> userInfo(OAuth2ProviderClient client, String accessToken) {
+        return webClient.get()
+                .uri(client.userInfoUrl())
+                .header("Authorization", "Bearer " + accessToken)
+                .httpRequest(httpRequest -> applyReadTimeout(httpRequest.getNativeRequest(), client.userInfoUrl()))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .handle((body, sink) -> {
+                    try (JsonParser parser = ProviderJson.parser(body)) {
+                        sink.next(client.readProfile(parser));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                });
+    }
+
+    // id_token 검증은 JWKS를 (드물게) 동기 조회할 수 있으므로 이벤트 루프 밖에서 실행
+    private Mono<OAuth2Profile> verifiedIdToken(OAuth2ProviderClient client, String idToken) {
+        if (idToken == null || client.idTokenNameClaim() == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> oidcIdTokenVerifier.verifyProfile(client, idToken).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void applyReadTimeout(Object nativeRequest, String url) {
+        if (nativeRequest instanceof HttpClientRequest request) {
+            request.responseTimeout(readTimeoutByHost.getOrDefault(URI.create(url).getHost(), DEFAULT_READ_TIMEOUT));
+        }
+    }
+
+    private static AppException providerError(OAuth2ProviderClient client, Throwable ex) {
+        log.error("{} 로그인 제공자 호출 실패", client.provider().getRegistrationId(), ex);
+        return new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, ex);
+    }
+}
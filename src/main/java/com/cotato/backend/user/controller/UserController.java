@@ -1,7 +1,8 @@
 package com.cotato.backend.user.controller;
 
 import com.cotato.backend.common.dto.response.DataResponse;
-import com.cotato.backend.domain.user.entity.User;
+import com.cotato.backend.common.jwt.UserPrincipal;
+import com.cotato.backend.user.dto.response.RefreshSessionResponse;
 import com.cotato.backend.user.dto.response.UserInfoResponse;
 import com.cotato.backend.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,10 +13,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -28,9 +34,30 @@ public class UserController {
     @Operation(summary = "내 정보 조회")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<DataResponse<UserInfoResponse>> getMe(
-        @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal,
+        @Parameter(hidden = true) @RequestAttribute(name = UserPrincipal.REQUEST_ATTRIBUTE, required = false) UserPrincipal resolvedPrincipal) {
 
-        UserInfoResponse userInfo = userService.getUserInfo(user.getId());
+        UserInfoResponse userInfo = userService.getUserInfo(principal.getId(), resolvedPrincipal);
         return ResponseEntity.ok(DataResponse.from(userInfo));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/me/sessions")
+    @Operation(summary = "로그인된 기기(세션) 목록")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DataResponse<List<RefreshSessionResponse>>> getSessions(
+        @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal) {
+
+        return ResponseEntity.ok(DataResponse.from(userService.getSessions(principal.getId())));
+    }
+
+    @DeleteMapping("/me/sessions/{sessionId}")
+    @Operation(summary = "기기(세션) 로그아웃", description = "해당 세션의 Refresh Token을 무효화합니다. 이미 발급된 Access Token은 만료 시까지 유효합니다.")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DataResponse<Void>> deleteSession(
+        @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal principal,
+        @PathVariable String sessionId) {
+
+        userService.deleteSession(principal.getId(), sessionId);
+        return ResponseEntity.ok(DataResponse.ok());
+    }
+}
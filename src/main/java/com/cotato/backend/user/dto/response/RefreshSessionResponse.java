@@ -0,0 +1,25 @@
+package com.cotato.backend.user.dto.response;
+
+import com.cotato.backend.common.jwt.RefreshTokenService.RefreshSession;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshSessionResponse {
+    private String sessionId;
+    private Instant expiresAt;
+
+    public static RefreshSessionResponse from(RefreshSession session) {
+        return RefreshSessionResponse.builder()
+                .sessionId(session.sessionId())
+                .expiresAt(session.expiresAt())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.cotato.backend.user.dto.response;
 
+import com.cotato.backend.common.jwt.UserPrincipal;
 import com.cotato.backend.domain.user.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,4 +25,13 @@ public class UserInfoResponse {
                 .provider(user.getProvider())
                 .build();
     }
+
+    public static UserInfoResponse from(UserPrincipal principal) {
+        return UserInfoResponse.builder()
+                .userId(principal.getId())
+                .email(principal.getEmail())
+                .name(principal.getName())
+                .provider(principal.getProvider())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.cotato.backend.user.dto.response;
+
+import com.cotato.backend.domain.user.repository.UserSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 목록 (키셋 페이지)")
+public class UserPageResponse {
+
+    private List<UserSummary> users;
+
+    @Schema(description = "다음 페이지 요청 시 cursor로 전달할 값 (마지막 사용자 ID), 마지막 페이지면 null")
+    private Long nextCursor;
+
+    private boolean hasNext;
+
+    // size + 1건을 조회해 다음 페이지 존재 여부를 판단
+    public static UserPageResponse of(List<UserSummary> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<UserSummary> users = hasNext ? fetched.subList(0, size) : fetched;
+        return UserPageResponse.builder()
+                .users(users)
+                .nextCursor(hasNext ? users.get(users.size() - 1).id() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
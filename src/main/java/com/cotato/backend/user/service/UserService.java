@@ -2,31 +2,109 @@ package com.cotato.backend.user.service;
 
 import com.cotato.backend.common.exception.EntityNotFoundException;
 import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.common.exception.ValidationException;
+import com.cotato.backend.common.jwt.RefreshTokenService;
+import com.cotato.backend.common.jwt.UserPrincipal;
 import com.cotato.backend.domain.user.entity.User;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
 import com.cotato.backend.domain.user.repository.UserRepository;
+import com.cotato.backend.domain.user.repository.UserSummary;
+import com.cotato.backend.user.dto.response.RefreshSessionResponse;
+import com.cotato.backend.user.dto.response.UserPageResponse;
 import com.cotato.backend.user.dto.response.UserInfoResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
+    // 사용자 목록 (id 키셋 페이지, provider 필터 선택) - cursor가 없으면 첫 페이지
     @Transactional(readOnly = true)
-    public List<User> getList() {
-        return userRepository.findAll();
+    public UserPageResponse getPage(Long cursor, List<String> providers, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE || (cursor != null && cursor < 0)) {
+            throw new ValidationException(ErrorCode.INVALID_PARAMETER);
+        }
+        long after = cursor != null ? cursor : 0L;
+        Limit limit = Limit.of(size + 1);
+        List<UserSummary> fetched = CollectionUtils.isEmpty(providers)
+                ? userRepository.findPageAfter(after, limit)
+                : userRepository.findPageAfter(after, providers, limit);
+        return UserPageResponse.of(fetched, size);
     }
 
+    // 전체 사용자를 JSON Lines로 기록 - 한 행씩 쓰고 바로 detach해 영속성 컨텍스트가 커지지 않음
     @Transactional(readOnly = true)
-    public UserInfoResponse getUserInfo(Long userId) {
-        User user = userRepository.findById(userId)
+    public long export(List<String> providers, OutputStream out) throws IOException {
+        long count = 0;
+        // 기본 설정(FLUSH_AFTER_WRITE_VALUE)은 행마다 flush → EXPORT_FLUSH_INTERVAL 단위로만 flush하도록 끔
+        ObjectWriter writer = objectMapper.writerFor(UserSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<User> users = CollectionUtils.isEmpty(providers)
+                     ? userRepository.streamAll()
+                     : userRepository.streamByProviders(providers);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null); // 행 구분은 줄바꿈만 (기본 구분자 공백이 다음 행 앞에 붙지 않도록)
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.writeValue(generator, UserSummary.from(user));
+                generator.writeRaw('\n');
+                entityManager.detach(user);
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    // 필터가 이번 요청에서 이미 읽은 principal이 있으면 그대로 사용 (추가 조회 없음)
+    // 없으면 (claims 모드) 캐시 또는 projection 한 번 조회 - 트랜잭션 없이 조회해 캐시 적중 시 DB 커넥션을 잡지 않음
+    public UserInfoResponse getUserInfo(Long userId, UserPrincipal resolvedPrincipal) {
+        if (resolvedPrincipal != null && resolvedPrincipal.getId().equals(userId)) {
+            return UserInfoResponse.from(resolvedPrincipal);
+        }
+        return userPrincipalCache.get(userId)
+                .map(UserInfoResponse::from)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 로그인된 기기(Refresh Token 세션) 목록 - 사용자 Hash 하나만 조회
+    public List<RefreshSessionResponse> getSessions(Long userId) {
+        return refreshTokenService.getSessions(userId).stream()
+                .map(RefreshSessionResponse::from)
+                .toList();
+    }
 
-        return UserInfoResponse.from(user);
+    // 특정 기기 로그아웃 (해당 세션의 Refresh Token으로 더 이상 갱신 불가)
+    public void deleteSession(Long userId, String sessionId) {
+        if (!refreshTokenService.delete(userId, sessionId)) {
+            throw new EntityNotFoundException(ErrorCode.SESSION_NOT_FOUND);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.cotato.backend.admin.controller;
+
+import com.cotato.backend.common.config.SecurityConfig;
+import com.cotato.backend.common.jwt.JwtTokenProvider;
+import com.cotato.backend.common.jwt.LogoutService;
+import com.cotato.backend.common.jwt.RevocationEpochService;
+import com.cotato.backend.common.jwt.TokenBlacklistService;
+import com.cotato.backend.common.jwt.UserPrincipal;
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import com.cotato.backend.domain.user.repository.UserProfile;
+import com.cotato.backend.domain.user.repository.UserSummary;
+import com.cotato.backend.user.dto.response.UserPageResponse;
+import com.cotato.backend.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminController.class)
+@Import(SecurityConfig.class)
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LogoutService logoutService;
+    @MockitoBean
+    private UserService userService;
+
+    // JwtAuthenticationFilter 협력 객체 (Authorization 헤더가 없으므로 호출되지 않음)
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+    @MockitoBean
+    private RevocationEpochService revocationEpochService;
+
+    @Test
+    void adminCanForceLogout() throws Exception {
+        mockMvc.perform(post("/api/admin/users/logout")
+                        .with(principalWith(Role.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[1,2]}"))
+                .andExpect(status().isOk());
+
+        verify(logoutService).logoutAll(List.of(1L, 2L));
+    }
+
+    @Test
+    void userIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/admin/users/logout")
+                        .with(principalWith(Role.USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[1,2]}"))
+                .andExpect(status().isForbidden());
+
+        verify(logoutService, never()).logoutAll(any());
+    }
+
+    @Test
+    void adminCanListUsers() throws Exception {
+        UserSummary user = new UserSummary(11L, "사용자", "user@example.com", "kakao", LocalDateTime.now());
+        when(userService.getPage(5L, List.of("kakao", "naver"), 1))
+                .thenReturn(UserPageResponse.of(List.of(user, user), 1));
+
+        mockMvc.perform(get("/api/admin/users")
+                        .with(principalWith(Role.ADMIN))
+                        .param("cursor", "5")
+                        .param("provider", "kakao", "naver")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users.length()").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value(11))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    void listUsersDefaultsToFirstPageOfTwenty() throws Exception {
+        when(userService.getPage(null, null, 20)).thenReturn(UserPageResponse.of(List.of(), 20));
+
+        mockMvc.perform(get("/api/admin/users").with(principalWith(Role.ADMIN)))
+                .andExpect(status().isOk());
+
+        verify(userService).getPage(null, null, 20);
+    }
+
+    @Test
+    void userCannotListUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/users").with(principalWith(Role.USER)))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).getPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void adminCanExportUsers() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(userService).export(any(), any());
+
+        MvcResult started = mockMvc.perform(get("/api/admin/users/export")
+                        .with(principalWith(Role.ADMIN))
+                        .param("provider", "google"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+        verify(userService).export(eq(List.of("google")), any());
+    }
+
+    @Test
+    void userCannotExportUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/users/export").with(principalWith(Role.USER)))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).export(any(), any());
+    }
+
+    // 필터가 users.role을 읽어 만드는 것과 같은 principal
+    static RequestPostProcessor principalWith(Role role) {
+        UserPrincipal principal = UserPrincipal.from(
+                new UserProfile(1L, "관리자", "admin@example.com", "kakao", role));
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,227 @@
+package com.cotato.backend.common.config;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.dto.request.OAuthCallbackRequest;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import com.cotato.backend.oauth.provider.ProviderJson;
+import com.cotato.backend.oauth.service.OAuth2LoginClient;
+import com.cotato.backend.oauth.service.OAuthProviderGuard;
+import com.cotato.backend.oauth.service.OidcIdTokenVerifier;
+import com.fasterxml.jackson.core.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 제공자 RestClient의 요청별 시간 제한(ProviderDeadline 남은 시간)을 로컬 HTTP 서버로 검증
+ */
+class OAuthHttpClientConfigTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestClient restClient;
+    private OAuthHttpProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/token", exchange -> respond(exchange, "{\"access_token\":\"at\"}"));
+        server.createContext("/userinfo", exchange -> {
+            userInfoCalls.incrementAndGet();
+            respond(exchange, "{\"name\":\"사용자\",\"email\":\"user@example.com\"}");
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(Duration.ofSeconds(2));
+            respond(exchange, "{}");
+        });
+        server.start();
+
+        properties = new OAuthHttpProperties(200, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofSeconds(60), Map.of("kakao", new OAuthHttpProperties.Provider(
+                        List.of("localhost"), 20, Duration.ofSeconds(1), READ_TIMEOUT, Duration.ofMillis(300))));
+        OAuthHttpClientConfig config = new OAuthHttpClientConfig();
+        httpClient = config.oAuthHttpClient(config.oAuthConnectionManager(properties, new SimpleMeterRegistry()),
+                properties);
+        restClient = config.oAuthRestClient(httpClient, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void withoutDeadlineUsesConfiguredTimeouts() {
+        assertThat(ProviderDeadline.remaining()).isNull();
+        assertThat(restClient.get().uri(url("/token")).retrieve().body(String.class)).contains("access_token");
+    }
+
+    @Test
+    void responseTimeoutShrinksToRemainingBudget() {
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> ProviderDeadline.within(Duration.ofMillis(200),
+                () -> restClient.get().uri(url("/slow")).retrieve().body(String.class)))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        // 제공자 응답 시간 제한(5s)이 아니라 남은 예산(200ms)에서 끊김
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void exhaustedBudgetSendsNoRequest() {
+        assertThatThrownBy(() -> ProviderDeadline.within(Duration.ZERO,
+                () -> restClient.get().uri(url("/userinfo")).retrieve().body(String.class)))
+                .isInstanceOf(ProviderDeadline.ExceededException.class);
+        assertThat(userInfoCalls).hasValue(0);
+    }
+
+    @Test
+    void exhaustedBudgetAfterTokenExchangeSkipsUserInfoCall() {
+        // id_token 검증이 예산(300ms)을 다 쓰고 사용자 정보 API로 넘어가는 경우
+        OidcIdTokenVerifier slowVerifier = mock(OidcIdTokenVerifier.class);
+        when(slowVerifier.verifyProfile(any(), any())).thenAnswer(invocation -> {
+            sleep(Duration.ofMillis(400));
+            return Optional.empty();
+        });
+        OAuthProviderGuard guard = new OAuthProviderGuard(BulkheadRegistry.ofDefaults(),
+                CircuitBreakerRegistry.ofDefaults(), properties, new SimpleMeterRegistry());
+        OAuth2LoginClient loginClient = new OAuth2LoginClient(restClient, slowVerifier, guard);
+
+        assertThatThrownBy(() -> loginClient.fetchProfile(new LocalProvider(), new OAuthCallbackRequest("code", null, null)))
+                .isInstanceOfSatisfying(AppException.class, ex -> {
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+                    assertThat(ex.getCause()).isInstanceOf(ProviderDeadline.ExceededException.class);
+                });
+        assertThat(userInfoCalls).hasValue(0);
+    }
+
+    @Test
+    void providerConnectionLimitAppliesToHttpsHostsAndExplicitEndpoints() {
+        OAuthHttpProperties limits = new OAuthHttpProperties(200, Duration.ofSeconds(1), Duration.ofSeconds(30),
+                Duration.ofMinutes(5), Duration.ofSeconds(60), Map.of("kakao", new OAuthHttpProperties.Provider(
+                List.of("kauth.kakao.com", "http://localhost:8089"), 50, Duration.ofSeconds(1), READ_TIMEOUT,
+                Duration.ofSeconds(4))));
+
+        PoolingHttpClientConnectionManager manager =
+                new OAuthHttpClientConfig().oAuthConnectionManager(limits, new SimpleMeterRegistry());
+
+        assertThat(manager.getMaxPerRoute(new HttpRoute(new HttpHost("https", "kauth.kakao.com", 443), null, true)))
+                .isEqualTo(50);
+        // 부하 테스트 스텁 (http, 지정 포트)
+        assertThat(manager.getMaxPerRoute(new HttpRoute(new HttpHost("http", "localhost", 8089)))).isEqualTo(50);
+        assertThat(manager.getMaxPerRoute(new HttpRoute(new HttpHost("https", "localhost", 443), null, true)))
+                .isEqualTo(20);
+        manager.close();
+    }
+
+    @Test
+    void nestedBudgetKeepsShorterOuterDeadline() {
+        ProviderDeadline.within(Duration.ofMillis(100), () -> {
+            Duration outer = ProviderDeadline.remaining();
+            ProviderDeadline.within(Duration.ofSeconds(10), () -> {
+                assertThat(ProviderDeadline.remaining()).isLessThanOrEqualTo(outer);
+                return null;
+            });
+            ProviderDeadline.within(Duration.ofMillis(10), () -> {
+                assertThat(ProviderDeadline.remaining()).isLessThanOrEqualTo(Duration.ofMillis(10));
+                return null;
+            });
+            assertThat(ProviderDeadline.remaining()).isLessThanOrEqualTo(outer);
+            return null;
+        });
+        assertThat(ProviderDeadline.remaining()).isNull();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 로컬 서버를 가리키는 제공자 (카카오 격리 설정 사용)
+    private class LocalProvider implements OAuth2ProviderClient {
+
+        @Override
+        public OAuth2Provider provider() {
+            return OAuth2Provider.KAKAO;
+        }
+
+        @Override
+        public String clientId() {
+            return "client";
+        }
+
+        @Override
+        public String tokenUrl() {
+            return url("/token");
+        }
+
+        @Override
+        public String userInfoUrl() {
+            return url("/userinfo");
+        }
+
+        @Override
+        public MultiValueMap<String, String> tokenParams(OAuthCallbackRequest request) {
+            return new LinkedMultiValueMap<>(Map.of("code", List.of(request.getCode())));
+        }
+
+        @Override
+        public OAuth2Profile readProfile(JsonParser parser) throws IOException {
+            return ProviderJson.readProfile(parser, OAuth2Provider.KAKAO, new String[]{"name"}, new String[]{"email"});
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactJwtCodecTest {
+
+    private static final String SECRET = "test-secret-0123456789abcdef-0123456789";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private static final String JTI = "AAAAAAAAAAAAAAAAAAAAAA";
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final CompactJwtCodec codec = new CompactJwtCodec(KEY);
+    private final long now = System.currentTimeMillis() / 1000 * 1000;
+    private final long exp = now + 3_600_000L;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"user", "벤치마크 user", "Zoë Ångström", "名前"})
+    void accessTokenMatchesJjwtByteForByte(String name) {
+        String expected = jjwtAccessToken(name).signWith(KEY).compact();
+
+        assertThat(codec.encodeAccessToken(JTI, 42L, "user@example.com", name, "kakao", Role.ADMIN.name(), now, exp))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void refreshTokenMatchesJjwtByteForByte() {
+        String expected = Jwts.builder()
+                .subject("42")
+                .claim("sid", "AAAAAAAAAAAA")
+                .claim("type", TokenType.REFRESH.getValue())
+                .issuedAt(new Date(now))
+                .expiration(new Date(exp))
+                .signWith(KEY)
+                .compact();
+
+        assertThat(codec.encodeRefreshToken(42L, "AAAAAAAAAAAA", now, exp)).isEqualTo(expected);
+    }
+
+    @Test
+    void decodesJjwtIssuedAccessToken() {
+        String token = jjwtAccessToken("벤치마크 user").signWith(KEY).compact();
+
+        VerifiedToken decoded = codec.decode(token, now);
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getId()).isEqualTo(JTI);
+        assertThat(decoded.getUserId()).isEqualTo(42L);
+        assertThat(decoded.getEmail()).isEqualTo("user@example.com");
+        assertThat(decoded.getName()).isEqualTo("벤치마크 user");
+        assertThat(decoded.getProvider()).isEqualTo("kakao");
+        assertThat(decoded.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(decoded.isAccessToken()).isTrue();
+        assertThat(decoded.getExpiresAt().toEpochMilli()).isEqualTo(exp);
+    }
+
+    @Test
+    void issuedAtKeepsMillisecondsOnlyWithinTheIatSecond() {
+        String token = codec.encodeAccessToken(JTI, 42L, "user@example.com", "user", "kakao", Role.USER.name(),
+                now + 567, exp);
+        String mismatched = jjwtAccessToken("user").claim(VerifiedToken.ISSUED_AT_MILLIS, now + 1_567).signWith(KEY)
+                .compact();
+        String legacy = Jwts.builder()
+                .id(JTI)
+                .subject("42")
+                .claim("type", TokenType.ACCESS.getValue())
+                .issuedAt(new Date(now + 567))
+                .expiration(new Date(exp))
+                .signWith(KEY)
+                .compact();
+
+        assertThat(codec.decode(token, now).getIssuedAt().toEpochMilli()).isEqualTo(now + 567);
+        // iat와 다른 초의 iat_ms는 무시하고 초 단위 iat 사용
+        assertThat(codec.decode(mismatched, now).getIssuedAt().toEpochMilli()).isEqualTo(now);
+        assertThat(codec.decode(legacy, now).getIssuedAt().toEpochMilli()).isEqualTo(now);
+    }
+
+    @Test
+    void decodesCompactProfileTypeCode() {
+        String token = Jwts.builder()
+                .id(JTI)
+                .subject("7")
+                .claim("t", TokenType.ACCESS.getCode())
+                .issuedAt(new Date(now))
+                .expiration(new Date(exp))
+                .signWith(KEY)
+                .compact();
+
+        VerifiedToken decoded = codec.decode(token, now);
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getUserId()).isEqualTo(7L);
+        assertThat(decoded.getType()).isEqualTo(TokenType.ACCESS);
+        assertThat(decoded.getRole()).isEqualTo(Role.USER);
+        assertThat(decoded.getEmail()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"quote \" name", "back\\slash", "line\nbreak", "emoji 😀"})
+    void stringsNeedingEscapesFallBackToJjwt(String name) {
+        assertThat(codec.encodeAccessToken(JTI, 42L, "user@example.com", name, "kakao", Role.USER.name(), now, exp))
+                .isNull();
+
+        String token = jjwtAccessToken(name).signWith(KEY).compact();
+        if (name.chars().anyMatch(c -> c == '"' || c == '\\' || c < 0x20)) {
+            assertThat(codec.decode(token, now)).isNull();
+        }
+
+        // 코덱이 처리하지 못한 토큰도 JwtTokenProvider는 jjwt로 검증
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, true, ClaimProfile.FULL,
+                new VerifiedTokenCache(false, 100, new SimpleMeterRegistry()),
+                new JwtKeyRing(JwtKeyRing.HS256, ""), null);
+        assertThat(provider.verify(token)).hasValueSatisfying(verified ->
+                assertThat(verified.getName()).isEqualTo(name));
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = codec.encodeAccessToken(JTI, 42L, "user@example.com", "user", "kakao", Role.USER.name(), now, exp);
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThat(codec.decode(tampered, now)).isNull();
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = codec.encodeAccessToken(JTI, 42L, "user@example.com", "user", "kakao", Role.USER.name(), now, exp);
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"role\":\"USER\"", "\"role\":\"ADMIN\"");
+        String forged = parts[0] + "." + B64.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(codec.decode(forged, now)).isNull();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        SecretKey otherKey = Keys.hmacShaKeyFor("another-secret-0123456789abcdef-01234".getBytes(StandardCharsets.UTF_8));
+        String token = jjwtAccessToken("user").signWith(otherKey).compact();
+
+        assertThat(codec.decode(token, now)).isNull();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = codec.encodeAccessToken(JTI, 42L, "user@example.com", "user", "kakao", Role.USER.name(), now, exp);
+
+        assertThat(codec.decode(token, exp)).isNotNull();
+        assertThat(codec.decode(token, exp + 1)).isNull();
+    }
+
+    @Test
+    void rejectsHeaderWithTyp() {
+        String token = jjwtAccessToken("user").header().type("JWT").and().signWith(KEY).compact();
+
+        assertThat(codec.decode(token, now)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownTypeValueAndUnknownClaims() {
+        String wrongType = Jwts.builder()
+                .subject("42")
+                .claim("type", "id")
+                .expiration(new Date(exp))
+                .signWith(KEY)
+                .compact();
+        String extraClaim = jjwtAccessToken("user").claim("scope", "admin").signWith(KEY).compact();
+
+        assertThat(codec.decode(wrongType, now)).isNull();
+        assertThat(codec.decode(extraClaim, now)).isNull();
+    }
+
+    @Test
+    void rejectsTruncatedAndMalformedTokens() {
+        String token = codec.encodeAccessToken(JTI, 42L, "user@example.com", "user", "kakao", Role.USER.name(), now, exp);
+        int secondDot = token.lastIndexOf('.');
+        String header = token.substring(0, token.indexOf('.'));
+
+        assertThat(codec.decode(null, now)).isNull();
+        assertThat(codec.decode("", now)).isNull();
+        assertThat(codec.decode(header, now)).isNull();
+        assertThat(codec.decode(header + ".", now)).isNull();
+        assertThat(codec.decode(token.substring(0, secondDot), now)).isNull();
+        assertThat(codec.decode(token.substring(0, secondDot + 1), now)).isNull();
+        assertThat(codec.decode(token.substring(0, token.length() - 1), now)).isNull();
+        assertThat(codec.decode(token + "A", now)).isNull();
+        // 페이로드 길이 % 4 == 1, base64url 밖의 문자, 비 ASCII 문자
+        assertThat(codec.decode(header + ".A" + token.substring(secondDot), now)).isNull();
+        assertThat(codec.decode(header + ".e+J9" + token.substring(secondDot), now)).isNull();
+        assertThat(codec.decode(header + ".한글" + token.substring(secondDot), now)).isNull();
+        // 서명은 맞지만 JSON이 잘린 페이로드
+        String truncatedJson = Jwts.builder().content("{\"sub\":\"42\",\"exp\":").signWith(KEY).compact();
+        assertThat(codec.decode(truncatedJson, now)).isNull();
+    }
+
+    private JwtBuilder jjwtAccessToken(String name) {
+        return Jwts.builder()
+                .id(JTI)
+                .subject("42")
+                .claim("email", "user@example.com")
+                .claim("name", name)
+                .claim("provider", "kakao")
+                .claim("role", Role.ADMIN.name())
+                .claim("type", TokenType.ACCESS.getValue())
+                .issuedAt(new Date(now))
+                .claim(VerifiedToken.ISSUED_AT_MILLIS, now)
+                .expiration(new Date(exp));
+    }
+}
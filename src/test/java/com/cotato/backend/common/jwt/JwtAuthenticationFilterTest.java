@@ -0,0 +1,98 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final TokenBlacklistService tokenBlacklistService = mock(TokenBlacklistService.class);
+    private final RevocationEpochService revocationEpochService = mock(RevocationEpochService.class);
+    private final VerifiedToken verifiedToken = new VerifiedToken(TOKEN, "jti", 1L, null, "user@example.com", "user",
+            "kakao", Role.USER, TokenType.ACCESS, Instant.now(), Instant.now().plusSeconds(3600));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsModeWithCompactProfileFailsAtStartup() {
+        JwtAuthenticationFilter filter = filter(AuthenticationMode.CLAIMS, ClaimProfile.COMPACT);
+
+        assertThatThrownBy(filter::checkConfiguration).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void otherCombinationsAreAllowed() {
+        assertThatCode(filter(AuthenticationMode.CLAIMS, ClaimProfile.FULL)::checkConfiguration).doesNotThrowAnyException();
+        assertThatCode(filter(AuthenticationMode.ENTITY, ClaimProfile.COMPACT)::checkConfiguration).doesNotThrowAnyException();
+        assertThatCode(filter(AuthenticationMode.ENTITY, ClaimProfile.FULL)::checkConfiguration).doesNotThrowAnyException();
+    }
+
+    @Test
+    void activeTokenIsExposedToControllers() throws Exception {
+        MockHttpServletRequest request = filterRequest();
+
+        assertThat(request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE)).isSameAs(verifiedToken);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void blacklistedTokenIsNotExposed() throws Exception {
+        when(tokenBlacklistService.isBlacklisted(verifiedToken)).thenReturn(true);
+
+        MockHttpServletRequest request = filterRequest();
+
+        assertThat(request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE)).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void epochRevokedTokenIsNotExposed() throws Exception {
+        when(revocationEpochService.isRevoked(verifiedToken)).thenReturn(true);
+
+        MockHttpServletRequest request = filterRequest();
+
+        assertThat(request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE)).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest filterRequest() throws Exception {
+        when(jwtTokenProvider.verify(TOKEN)).thenReturn(Optional.of(verifiedToken));
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtTokenProvider, mock(UserPrincipalCache.class), tokenBlacklistService, revocationEpochService);
+        ReflectionTestUtils.setField(filter, "authenticationMode", AuthenticationMode.CLAIMS);
+        ReflectionTestUtils.setField(filter, "claimProfile", ClaimProfile.FULL);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/validate");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+
+    private static JwtAuthenticationFilter filter(AuthenticationMode mode, ClaimProfile profile) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(null, null, null, null);
+        ReflectionTestUtils.setField(filter, "authenticationMode", mode);
+        ReflectionTestUtils.setField(filter, "claimProfile", profile);
+        return filter;
+    }
+}
@@ -0,0 +1,124 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.cotato.backend.common.jwt.TokenBlacklistServiceTest.accessToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ReactiveTokenService의 세션 교체(ROTATE)와 폐기 판단이 동기 서비스와 같은 Redis 상태를 공유하는지 실제 Redis에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReactiveTokenServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final long VALIDITY = 604_800_000L;
+    private static final Long USER_ID = 1L;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static ReactiveStringRedisTemplate reactiveTemplate;
+
+    private RefreshTokenService refreshTokenService;
+    private TokenBlacklistService tokenBlacklistService;
+    private RevocationEpochService revocationEpochService;
+    private ReactiveTokenService reactiveTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        reactiveTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        RedisGuard redisGuard = new RedisGuard(CircuitBreakerRegistry.ofDefaults());
+        refreshTokenService = new RefreshTokenService(redisTemplate, Optional.empty(), redisGuard);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenValidity", VALIDITY);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessionsPerUser", 10);
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, Optional.empty(), Optional.empty(), redisGuard);
+        revocationEpochService = new RevocationEpochService(redisTemplate, mock(UserRepository.class), Optional.empty(),
+                Optional.empty(), redisGuard, RevocationFallback.FAIL_OPEN, VALIDITY, Duration.ofMinutes(10));
+        reactiveTokenService = new ReactiveTokenService(reactiveTemplate, tokenBlacklistService, revocationEpochService,
+                redisGuard, VALIDITY, 10);
+    }
+
+    @Test
+    void rotateReplacesSessionOnceAndRejectsReuse() {
+        refreshTokenService.save(USER_ID, "sid-a", "token-a");
+
+        StepVerifier.create(reactiveTokenService.rotate(USER_ID, "sid-a", "token-a", "token-b"))
+                .expectNext(true)
+                .verifyComplete();
+        // 이미 교체된 토큰 재사용 → 거부
+        StepVerifier.create(reactiveTokenService.rotate(USER_ID, "sid-a", "token-a", "token-c"))
+                .expectNext(false)
+                .verifyComplete();
+        // 없는 세션
+        StepVerifier.create(reactiveTokenService.rotate(USER_ID, "sid-unknown", "token-b", "token-c"))
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-b")).isTrue();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-a")).isFalse();
+    }
+
+    @Test
+    void isRevokedSeesBlacklistAndRevokeAllFromBlockingPath() {
+        VerifiedToken active = accessToken("jti-active", Instant.now().plusSeconds(600));
+        VerifiedToken loggedOut = accessToken("jti-logout", Instant.now().plusSeconds(600));
+        tokenBlacklistService.addToBlacklist(loggedOut);
+
+        StepVerifier.create(reactiveTokenService.isRevoked(active))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(reactiveTokenService.isRevoked(loggedOut))
+                .expectNext(true)
+                .verifyComplete();
+
+        // 일괄 폐기 이전에 발급된 토큰
+        VerifiedToken issuedBefore = new VerifiedToken("token-before", "jti-before", USER_ID, null, "user@example.com",
+                "사용자", "kakao", Role.USER, TokenType.ACCESS, Instant.now().minusSeconds(60), Instant.now().plusSeconds(600));
+        revocationEpochService.revokeAll(USER_ID);
+
+        StepVerifier.create(reactiveTokenService.isRevoked(issuedBefore))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,131 @@
+package com.cotato.backend.common.jwt;
+
+import io.lettuce.core.KillArgs;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisClientSideCacheTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private MeterRegistry meterRegistry;
+    private RedisClientSideCache cache;
+    private RedisClient writerClient;
+    private RedisCommands<String, String> writer; // 다른 노드 역할 (캐시를 거치지 않는 일반 연결)
+
+    @BeforeEach
+    void setUp() {
+        RedisURI uri = RedisURI.create(REDIS.getHost(), REDIS.getMappedPort(6379));
+        writerClient = RedisClient.create(uri);
+        StatefulRedisConnection<String, String> connection = writerClient.connect();
+        writer = connection.sync();
+        writer.flushall();
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RedisClientSideCache(uri, 1_000, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+        writerClient.shutdown();
+    }
+
+    @Test
+    void servesRepeatedReadsLocally() {
+        writer.set("epoch:1", "100");
+
+        assertThat(cache.get("epoch:1")).isEqualTo("100");
+        assertThat(cache.get("epoch:1")).isEqualTo("100");
+        assertThat(cache.exists("missing")).isFalse();
+        assertThat(cache.exists("missing")).isFalse();
+
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void serverInvalidationEvictsChangedKey() {
+        writer.sadd("blacklist:1", "jti-a");
+        assertThat(cache.isMember("blacklist:1", "jti-b")).isFalse();
+
+        writer.sadd("blacklist:1", "jti-b");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(cache.isMember("blacklist:1", "jti-b")).isTrue());
+        assertThat(meterRegistry.counter("redis.client-cache.invalidations").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void hashFieldsAreInvalidatedPerKey() {
+        writer.hset("refresh-sessions:1", "sid-a", "digest-a:1");
+        writer.hset("refresh-sessions:2", "sid-a", "digest-b:1");
+        assertThat(cache.hget("refresh-sessions:1", "sid-a")).isEqualTo("digest-a:1");
+        assertThat(cache.hget("refresh-sessions:2", "sid-a")).isEqualTo("digest-b:1");
+
+        writer.hdel("refresh-sessions:1", "sid-a");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(cache.hget("refresh-sessions:1", "sid-a")).isNull());
+        // 바뀌지 않은 키는 계속 로컬 적중
+        double hits = requests("hit");
+        assertThat(cache.hget("refresh-sessions:2", "sid-a")).isEqualTo("digest-b:1");
+        assertThat(requests("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void flushAllClearsEverything() {
+        writer.set("epoch:1", "100");
+        assertThat(cache.get("epoch:1")).isEqualTo("100");
+
+        writer.flushall();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(cache.get("epoch:1")).isNull());
+    }
+
+    @Test
+    void reconnectFlushesAndReenablesTracking() {
+        writer.set("epoch:1", "100");
+        assertThat(cache.get("epoch:1")).isEqualTo("100");
+        double flushesBefore = meterRegistry.counter("redis.client-cache.flushes").count();
+
+        // 캐시 연결을 끊으면 그 사이 무효화를 놓치므로 전체를 비워야 함
+        writer.clientKill(KillArgs.Builder.typeNormal());
+        writer.set("epoch:1", "200");
+
+        // 재연결 전에는 명령이 거부되므로 예외는 무시하고 재시도
+        await().atMost(Duration.ofSeconds(10)).ignoreExceptions().untilAsserted(() -> {
+            assertThat(meterRegistry.counter("redis.client-cache.flushes").count()).isGreaterThan(flushesBefore);
+            assertThat(cache.get("epoch:1")).isEqualTo("200");
+        });
+
+        // 재연결 후 다시 켠 추적으로 무효화 수신
+        writer.set("epoch:1", "300");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(cache.get("epoch:1")).isEqualTo("300"));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("redis.client-cache.requests").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,157 @@
+package com.cotato.backend.common.jwt;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RefreshTokenService Lua 스크립트(SAVE/ROTATE/MIGRATE)를 실제 Redis에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenServiceScriptTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final long VALIDITY = 604_800_000L;
+    private static final Long USER_ID = 1L;
+    private static final String SESSIONS = RefreshTokenService.SESSION_PREFIX + USER_ID;
+    private static final String LEGACY = RefreshTokenService.REFRESH_TOKEN_PREFIX + USER_ID;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        refreshTokenService = new RefreshTokenService(redisTemplate, Optional.empty(),
+                new RedisGuard(CircuitBreakerRegistry.ofDefaults()));
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenValidity", VALIDITY);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessionsPerUser", 3);
+    }
+
+    @Test
+    void saveStoresDigestWithExpiryAndSetsKeyTtl() {
+        refreshTokenService.save(USER_ID, "sid-a", "token-a");
+
+        String entry = (String) redisTemplate.opsForHash().get(SESSIONS, "sid-a");
+        assertThat(entry).startsWith(TokenDigest.sha256Base64("token-a") + ":");
+        assertThat(entry).doesNotContain("token-a");
+        assertThat(redisTemplate.getExpire(SESSIONS)).isPositive();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-a")).isTrue();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-b")).isFalse();
+    }
+
+    @Test
+    void saveRemovesExpiredSessionsAndEnforcesLimit() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForHash().put(SESSIONS, "expired", "digest:" + (now - 1_000));
+        redisTemplate.opsForHash().put(SESSIONS, "oldest", "digest:" + (now + 60_000));
+        redisTemplate.opsForHash().put(SESSIONS, "middle", "digest:" + (now + 120_000));
+        redisTemplate.opsForHash().put(SESSIONS, "newest", "digest:" + (now + 180_000));
+
+        refreshTokenService.save(USER_ID, "current", "token");
+
+        // 만료 세션 정리 후 4개 → 한도 3개, 만료가 가장 이른 세션부터 제거 (방금 저장한 세션은 유지)
+        assertThat(redisTemplate.opsForHash().keys(SESSIONS))
+                .containsExactlyInAnyOrder("middle", "newest", "current");
+        // 키 TTL은 가장 늦은 세션 만료 시각
+        assertThat(redisTemplate.getExpire(SESSIONS) * 1000).isGreaterThan(VALIDITY - 5_000);
+    }
+
+    @Test
+    void rotateReplacesOnlyMatchingLiveSessionOnce() {
+        refreshTokenService.save(USER_ID, "sid-a", "token-1");
+
+        assertThat(refreshTokenService.rotate(USER_ID, "sid-a", "token-1", "token-2")).isTrue();
+        // 이미 사용된 토큰으로 재시도 (동시 요청·탈취)
+        assertThat(refreshTokenService.rotate(USER_ID, "sid-a", "token-1", "token-3")).isFalse();
+        assertThat(refreshTokenService.rotate(USER_ID, "sid-unknown", "token-2", "token-3")).isFalse();
+
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-2")).isTrue();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-1")).isFalse();
+    }
+
+    @Test
+    void rotateRejectsExpiredSession() {
+        redisTemplate.opsForHash().put(SESSIONS, "sid-a",
+                RefreshTokenService.entry("token-1", System.currentTimeMillis() - 1_000));
+
+        assertThat(refreshTokenService.rotate(USER_ID, "sid-a", "token-1", "token-2")).isFalse();
+    }
+
+    @Test
+    void rotateExtendsKeyTtlToNewExpiry() {
+        redisTemplate.opsForHash().put(SESSIONS, "sid-a",
+                RefreshTokenService.entry("token-1", System.currentTimeMillis() + 60_000));
+        redisTemplate.expire(SESSIONS, Duration.ofMinutes(1));
+
+        assertThat(refreshTokenService.rotate(USER_ID, "sid-a", "token-1", "token-2", Duration.ofHours(1))).isTrue();
+
+        assertThat(redisTemplate.getExpire(SESSIONS)).isGreaterThan(Duration.ofMinutes(59).toSeconds());
+    }
+
+    @Test
+    void migrateMovesMatchingLegacyTokenIntoSessionHash() {
+        redisTemplate.opsForValue().set(LEGACY, "legacy-token");
+
+        assertThat(refreshTokenService.migrateLegacy(USER_ID, "wrong-token", "sid-new", "next")).isFalse();
+        assertThat(redisTemplate.hasKey(LEGACY)).isTrue();
+
+        assertThat(refreshTokenService.migrateLegacy(USER_ID, "legacy-token", "sid-new", "next")).isTrue();
+        assertThat(redisTemplate.hasKey(LEGACY)).isFalse();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-new", "next")).isTrue();
+        assertThat(redisTemplate.getExpire(SESSIONS)).isPositive();
+
+        // 한 번 옮긴 이전 토큰은 다시 쓸 수 없음
+        assertThat(refreshTokenService.migrateLegacy(USER_ID, "legacy-token", "sid-other", "next-2")).isFalse();
+        assertThat(refreshTokenService.getSessions(USER_ID)).extracting(RefreshTokenService.RefreshSession::sessionId)
+                .containsExactly("sid-new");
+    }
+
+    @Test
+    void deleteRemovesOnlyThatSession() {
+        refreshTokenService.save(USER_ID, "sid-a", "token-a");
+        refreshTokenService.save(USER_ID, "sid-b", "token-b");
+
+        assertThat(refreshTokenService.delete(USER_ID, "sid-a")).isTrue();
+
+        assertThat(refreshTokenService.validate(USER_ID, "sid-a", "token-a")).isFalse();
+        assertThat(refreshTokenService.validate(USER_ID, "sid-b", "token-b")).isTrue();
+        assertThat(redisTemplate.opsForHash().keys(SESSIONS)).containsExactly("sid-b");
+    }
+}
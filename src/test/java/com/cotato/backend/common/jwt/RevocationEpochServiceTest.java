@@ -0,0 +1,144 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.repository.UserRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 일괄 폐기 epoch의 노드 간 캐시 무효화와 밀리초 비교를 실제 Redis에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RevocationEpochServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final long REFRESH_VALIDITY = 604_800_000L;
+    // TTL 만료가 아니라 pub/sub 무효화로 반영되는지 확인하도록 길게 설정
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void revokeAllOnOneNodeEvictsCachedEpochOnAnother() {
+        RevocationEpochService nodeA = startNode();
+        RevocationEpochService nodeB = startNode();
+        VerifiedToken token = accessToken(Instant.now().minusSeconds(60));
+        // 노드 B가 epoch 0을 캐시
+        assertThat(nodeB.isRevoked(token)).isFalse();
+        assertThat(nodeB.cachedEpoch(1L)).isZero();
+
+        nodeA.revokeAll(1L);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> nodeB.cachedEpoch(1L) == null);
+        assertThat(nodeB.isRevoked(token)).isTrue();
+    }
+
+    @Test
+    void tokenIssuedInSameSecondAfterRevokeAllStaysValid() throws InterruptedException {
+        RevocationEpochService service = startNode();
+        JwtTokenProvider provider = new JwtTokenProvider("test-secret-0123456789abcdef-0123456789", 3_600_000L,
+                REFRESH_VALIDITY, true, ClaimProfile.FULL, new VerifiedTokenCache(false, 100, new SimpleMeterRegistry()),
+                new JwtKeyRing(JwtKeyRing.HS256, ""), null);
+        UserPrincipal principal = new UserPrincipal(1L, "user@example.com", "사용자", "kakao", Role.USER);
+        VerifiedToken before = provider.verify(provider.createAccessToken(principal)).orElseThrow();
+        Thread.sleep(2);
+
+        service.revokeAll(1L);
+        long epoch = Long.parseLong(redisTemplate.opsForValue().get(RevocationEpochService.EPOCH_PREFIX + 1L));
+        Thread.sleep(2);
+        VerifiedToken relogin = provider.verify(provider.createAccessToken(principal)).orElseThrow();
+
+        assertThat(service.isRevoked(before)).isTrue();
+        assertThat(service.isRevoked(relogin)).isFalse();
+        // 폐기 직후 같은 초에 발급된 토큰 (밀리초 단위 비교)
+        assertThat(service.isRevoked(accessToken(Instant.ofEpochMilli(epoch)))).isFalse();
+        assertThat(service.isRevoked(accessToken(Instant.ofEpochMilli(epoch - 2)))).isTrue();
+        // iat_ms가 없는 이전 형식 토큰은 같은 초면 폐기
+        assertThat(service.isRevoked(accessToken(Instant.ofEpochSecond(epoch / 1000)))).isTrue();
+    }
+
+    @Test
+    void secondEpochWrittenBeforeMillisecondSwitchIsStillApplied() {
+        RevocationEpochService service = startNode();
+        long epochSecond = Instant.now().getEpochSecond();
+        redisTemplate.opsForValue().set(RevocationEpochService.EPOCH_PREFIX + 1L, String.valueOf(epochSecond));
+
+        assertThat(service.isRevoked(accessToken(Instant.ofEpochSecond(epochSecond - 1)))).isTrue();
+        assertThat(service.isRevoked(accessToken(Instant.ofEpochSecond(epochSecond + 1)))).isFalse();
+    }
+
+    private RevocationEpochService startNode() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        RevocationEpochService service = new RevocationEpochService(redisTemplate, mock(UserRepository.class),
+                Optional.of(container), Optional.empty(), new RedisGuard(CircuitBreakerRegistry.ofDefaults()),
+                RevocationFallback.FAIL_OPEN, REFRESH_VALIDITY, CACHE_TTL);
+        service.subscribe();
+        container.start();
+        containers.add(container);
+        return service;
+    }
+
+    private static VerifiedToken accessToken(Instant issuedAt) {
+        return new VerifiedToken("token-" + issuedAt.toEpochMilli(), "jti", 1L, null, "user@example.com", "사용자",
+                "kakao", Role.USER, TokenType.ACCESS, issuedAt, issuedAt.plusSeconds(3600));
+    }
+}
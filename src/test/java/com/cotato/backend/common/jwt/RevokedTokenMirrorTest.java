@@ -0,0 +1,173 @@
+package com.cotato.backend.common.jwt;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.lettuce.core.KillArgs;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.cotato.backend.common.jwt.TokenBlacklistServiceTest.accessToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 블랙리스트 미러의 SCAN 재구성, 노드 간 전파, 구독 해제 시 ready 초기화와 재구독 후 재구성을 실제 Redis에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RevokedTokenMirrorTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final List<RevokedTokenMirror> mirrors = new ArrayList<>();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mirrors.forEach(RevokedTokenMirror::shutdown);
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void subscribeRebuildsBucketsAndLegacyKeysFromRedis() {
+        TokenBlacklistService writer = serviceWithoutMirror();
+        long minute = Instant.now().plusSeconds(1800).getEpochSecond() / 60;
+        VerifiedToken lastSecond = accessToken("jti-last", Instant.ofEpochSecond(minute * 60 + 59));
+        VerifiedToken nextMinute = accessToken("jti-next", Instant.ofEpochSecond((minute + 1) * 60));
+        VerifiedToken legacy = accessToken(null, Instant.now().plusSeconds(600));
+        writer.addToBlacklist(lastSecond);
+        writer.addToBlacklist(nextMinute);
+        writer.addToBlacklist(legacy);
+
+        RevokedTokenMirror mirror = startMirror();
+
+        await().atMost(Duration.ofSeconds(5)).until(mirror::isReady);
+        assertThat(mirror.isRevoked("jti-last")).isTrue();
+        assertThat(mirror.isRevoked("jti-next")).isTrue();
+        assertThat(mirror.isRevoked(TokenBlacklistService.legacyTokenId(legacy.getToken()))).isTrue();
+        assertThat(mirror.isRevoked("jti-other")).isFalse();
+    }
+
+    @Test
+    void revocationOnOneNodeIsRejectedByTheOther() {
+        RevokedTokenMirror mirrorA = startMirror();
+        RevokedTokenMirror mirrorB = startMirror();
+        await().atMost(Duration.ofSeconds(5)).until(() -> mirrorA.isReady() && mirrorB.isReady());
+        TokenBlacklistService nodeA = serviceWith(mirrorA);
+        TokenBlacklistService nodeB = serviceWith(mirrorB);
+        VerifiedToken token = accessToken("jti-a", Instant.now().plusSeconds(600));
+
+        nodeA.addToBlacklist(token);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> mirrorB.isRevoked("jti-a"));
+        assertThat(nodeB.isBlacklisted(token)).isTrue();
+    }
+
+    @Test
+    void unsubscribeFallsBackToRedisUntilRebuilt() {
+        RevokedTokenMirror mirror = startMirror();
+        await().atMost(Duration.ofSeconds(5)).until(mirror::isReady);
+        TokenBlacklistService node = serviceWith(mirror);
+        // 미러를 거치지 않고 기록 → 미러는 모름
+        VerifiedToken missed = accessToken("jti-missed", Instant.now().plusSeconds(600));
+        serviceWithoutMirror().addToBlacklist(missed);
+        assertThat(node.isBlacklisted(missed)).isFalse();
+
+        mirror.onChannelUnsubscribed(RevokedTokenMirror.CHANNEL.getBytes(StandardCharsets.UTF_8), 0);
+
+        assertThat(mirror.isReady()).isFalse();
+        assertThat(node.isBlacklisted(missed)).isTrue();
+    }
+
+    @Test
+    void revokedJtiStaysRejectedAfterResubscribe() {
+        RevokedTokenMirror mirror = startMirror();
+        await().atMost(Duration.ofSeconds(5)).until(mirror::isReady);
+        TokenBlacklistService node = serviceWith(mirror);
+        VerifiedToken known = accessToken("jti-known", Instant.now().plusSeconds(600));
+        node.addToBlacklist(known);
+        VerifiedToken missed = accessToken("jti-missed", Instant.now().plusSeconds(600));
+        serviceWithoutMirror().addToBlacklist(missed);
+        assertThat(mirror.isRevoked("jti-missed")).isFalse();
+
+        // 구독 연결을 끊으면 컨테이너가 재구독하고, 재구독 시 재구성으로 놓친 폐기를 반영
+        try (RedisClient client = RedisClient.create(RedisURI.create(REDIS.getHost(), REDIS.getMappedPort(6379)));
+             StatefulRedisConnection<String, String> connection = client.connect()) {
+            assertThat(connection.sync().clientKill(KillArgs.Builder.typePubsub())).isPositive();
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> mirror.isReady() && mirror.isRevoked("jti-missed"));
+        assertThat(node.isBlacklisted(known)).isTrue();
+        assertThat(node.isBlacklisted(missed)).isTrue();
+    }
+
+    private RevokedTokenMirror startMirror() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setRecoveryInterval(100);
+        container.afterPropertiesSet();
+        RevokedTokenMirror mirror = new RevokedTokenMirror(redisTemplate, container);
+        mirror.subscribe();
+        container.start();
+        containers.add(container);
+        mirrors.add(mirror);
+        return mirror;
+    }
+
+    private static TokenBlacklistService serviceWith(RevokedTokenMirror mirror) {
+        return new TokenBlacklistService(redisTemplate, Optional.of(mirror), Optional.empty(),
+                new RedisGuard(CircuitBreakerRegistry.ofDefaults()));
+    }
+
+    private static TokenBlacklistService serviceWithoutMirror() {
+        return new TokenBlacklistService(redisTemplate, Optional.empty(), Optional.empty(),
+                new RedisGuard(CircuitBreakerRegistry.ofDefaults()));
+    }
+}
@@ -0,0 +1,156 @@
+package com.cotato.backend.common.jwt;
+
+import com.cotato.backend.domain.oauth.Role;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블랙리스트 저장 구조(revoked:{epochMinute} jti Set, 이전 형식 blacklist:{토큰})와 Redis 장애 시 판단을 실제 Redis에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenBlacklistServiceTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    }
+
+    @Test
+    void revokedJtiIsStoredInExpiryMinuteBucketUntilAfterExpiry() {
+        TokenBlacklistService service = service(RevocationFallback.FAIL_OPEN);
+        VerifiedToken token = accessToken("jti-a", Instant.now().plusSeconds(1800));
+
+        service.addToBlacklist(token);
+
+        String bucket = TokenBlacklistService.REVOKED_BUCKET_PREFIX + token.getExpiresAt().getEpochSecond() / 60;
+        assertThat(redisTemplate.opsForSet().members(bucket)).containsExactly("jti-a");
+        // EXPIREAT = 버킷 끝 + 여유 → 버킷의 모든 토큰 exp 이후에 삭제
+        long expiresAt = System.currentTimeMillis() + redisTemplate.getExpire(bucket, TimeUnit.MILLISECONDS);
+        assertThat(expiresAt).isGreaterThan(token.getExpiresAt().toEpochMilli());
+        assertThat(expiresAt).isLessThanOrEqualTo(TokenBlacklistService.bucketEndMillis(token.getExpiresAt().getEpochSecond() / 60) + 61_000);
+
+        assertThat(service.isBlacklisted(token)).isTrue();
+        assertThat(service.isBlacklisted(accessToken("jti-b", token.getExpiresAt()))).isFalse();
+    }
+
+    @Test
+    void tokensOnBothSidesOfBucketRolloverAreRejected() {
+        TokenBlacklistService service = service(RevocationFallback.FAIL_OPEN);
+        long minute = Instant.now().plusSeconds(1800).getEpochSecond() / 60;
+        VerifiedToken lastSecond = accessToken("jti-last", Instant.ofEpochSecond(minute * 60 + 59));
+        VerifiedToken nextMinute = accessToken("jti-next", Instant.ofEpochSecond((minute + 1) * 60));
+
+        service.addToBlacklist(lastSecond);
+        service.addToBlacklist(nextMinute);
+
+        assertThat(redisTemplate.opsForSet().members(TokenBlacklistService.REVOKED_BUCKET_PREFIX + minute))
+                .containsExactly("jti-last");
+        assertThat(redisTemplate.opsForSet().members(TokenBlacklistService.REVOKED_BUCKET_PREFIX + (minute + 1)))
+                .containsExactly("jti-next");
+        assertThat(service.isBlacklisted(lastSecond)).isTrue();
+        assertThat(service.isBlacklisted(nextMinute)).isTrue();
+        assertThat(service.isBlacklisted(accessToken("jti-other", nextMinute.getExpiresAt()))).isFalse();
+    }
+
+    @Test
+    void legacyTokenWithoutJtiUsesTokenKey() {
+        TokenBlacklistService service = service(RevocationFallback.FAIL_OPEN);
+        VerifiedToken legacy = accessToken(null, Instant.now().plusSeconds(600));
+
+        service.addToBlacklist(legacy);
+
+        String key = TokenBlacklistService.BLACKLIST_PREFIX + legacy.getToken();
+        assertThat(redisTemplate.opsForValue().get(key)).isEqualTo("logout");
+        assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isBetween(590L, 600L);
+        assertThat(service.isBlacklisted(legacy)).isTrue();
+        assertThat(service.isBlacklisted(new VerifiedToken("other-legacy-token", null, 1L, null, null, null, null,
+                Role.USER, TokenType.ACCESS, Instant.now(), legacy.getExpiresAt()))).isFalse();
+    }
+
+    @Test
+    void failOpenUsesTokensRevokedOnThisNode() {
+        TokenBlacklistService thisNode = service(RevocationFallback.FAIL_OPEN);
+        TokenBlacklistService otherNode = new TokenBlacklistService(redisTemplate, Optional.empty(), Optional.empty(),
+                new RedisGuard(CircuitBreakerRegistry.ofDefaults()));
+        VerifiedToken revokedHere = accessToken("jti-here", Instant.now().plusSeconds(600));
+        VerifiedToken revokedElsewhere = accessToken("jti-elsewhere", Instant.now().plusSeconds(600));
+        thisNode.addToBlacklist(revokedHere);
+        otherNode.addToBlacklist(revokedElsewhere);
+
+        redisUnavailable();
+
+        assertThat(thisNode.isBlacklisted(revokedHere)).isTrue();
+        // 다른 노드의 로그아웃은 Redis 없이 알 수 없음 (fail-open의 한계)
+        assertThat(thisNode.isBlacklisted(revokedElsewhere)).isFalse();
+        assertThat(thisNode.isBlacklisted(accessToken("jti-active", Instant.now().plusSeconds(600)))).isFalse();
+    }
+
+    @Test
+    void failClosedTreatsEveryTokenAsRevoked() {
+        TokenBlacklistService service = service(RevocationFallback.FAIL_CLOSED);
+
+        redisUnavailable();
+
+        assertThat(service.isBlacklisted(accessToken("jti-active", Instant.now().plusSeconds(600)))).isTrue();
+    }
+
+    private TokenBlacklistService service(RevocationFallback fallback) {
+        TokenBlacklistService service = new TokenBlacklistService(redisTemplate, Optional.empty(), Optional.empty(),
+                new RedisGuard(circuitBreakerRegistry));
+        ReflectionTestUtils.setField(service, "revocationFallback", fallback);
+        return service;
+    }
+
+    // 차단기를 강제로 열어 Redis 호출 없이 대체 결과를 사용하게 함
+    private void redisUnavailable() {
+        circuitBreakerRegistry.circuitBreaker(RedisGuard.CIRCUIT_BREAKER_NAME).transitionToForcedOpenState();
+    }
+
+    static VerifiedToken accessToken(String jti, Instant expiresAt) {
+        return new VerifiedToken("token-" + jti + "-" + expiresAt.toEpochMilli(), jti, 1L, null,
+                "user@example.com", "사용자", "kakao", Role.USER, TokenType.ACCESS, Instant.now(), expiresAt);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MySQL 컨테이너: 내보내기 쿼리만 행 단위 스트리밍 (풀 설정 useCursorFetch 없이)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserExportQueriesMySqlTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    UserExportQueriesImpl userExportQueries;
+
+    @Test
+    void streamsExportRowsOnlyForExportQuery() {
+        List<Long> ids = userRepository.saveAll(IntStream.range(0, 3)
+                        .mapToObj(i -> User.builder().name("사용자" + i).email("user" + i + "@example.com")
+                                .provider(i == 1 ? "google" : "kakao").build())
+                        .toList())
+                .stream().map(User::getId).toList();
+
+        assertThat(userExportQueries.fetchSize()).isEqualTo(Integer.MIN_VALUE);
+        try (Stream<User> users = userRepository.streamAll()) {
+            assertThat(users.map(User::getId)).containsExactlyElementsOf(ids);
+        }
+        try (Stream<User> users = userRepository.streamByProviders(List.of("google"))) {
+            assertThat(users.map(User::getId)).containsExactly(ids.get(1));
+        }
+        // 스트림을 닫은 뒤에는 같은 커넥션으로 일반 쿼리 가능
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,17 @@
+package com.cotato.backend.domain.user.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+// 내장 H2 (MERGE INTO ... FINAL TABLE)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserUpsertRepository.class)
+class UserUpsertRepositoryH2Test extends UserUpsertRepositoryTestSupport {
+
+    @Override
+    String expectedDialect() {
+        return "H2";
+    }
+}
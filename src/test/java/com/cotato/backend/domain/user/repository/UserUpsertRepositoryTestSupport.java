@@ -0,0 +1,83 @@
+package com.cotato.backend.domain.user.repository;
+
+import com.cotato.backend.domain.oauth.Role;
+import com.cotato.backend.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB별 upsert SQL 공통 검증 (스키마는 User 엔티티로 Hibernate가 생성)
+ */
+abstract class UserUpsertRepositoryTestSupport {
+
+    @Autowired
+    UserUpsertRepository userUpsertRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // 검증 대상 DB 전용 SQL이 선택되었는지 (조회 후 삽입 방식으로 빠지면 안 됨)
+    abstract String expectedDialect();
+
+    @Test
+    void usesDialectSpecificStatement() {
+        assertThat(ReflectionTestUtils.getField(userUpsertRepository, "dialect")).hasToString(expectedDialect());
+    }
+
+    @Test
+    void insertsNewUserAsUser() {
+        long id = userUpsertRepository.upsert("신규", "new@example.com", "kakao");
+
+        User user = userRepository.findById(id).orElseThrow();
+        assertThat(user.getName()).isEqualTo("신규");
+        assertThat(user.getEmail()).isEqualTo("new@example.com");
+        assertThat(user.getProvider()).isEqualTo("kakao");
+        assertThat(user.getRole()).isEqualTo(Role.USER);
+        assertThat(user.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void returnsExistingIdWithoutChangingUser() {
+        long first = userUpsertRepository.upsert("처음 이름", "same@example.com", "naver");
+        jdbcTemplate.update("UPDATE users SET role = 'ADMIN' WHERE id = ?", first);
+
+        long second = userUpsertRepository.upsert("바뀐 이름", "same@example.com", "naver");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(count("same@example.com", "naver")).isEqualTo(1);
+        UserProfile profile = userRepository.findProfileById(first).orElseThrow();
+        assertThat(profile.name()).isEqualTo("처음 이름");
+        assertThat(profile.role()).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    void sameEmailWithAnotherProviderIsAnotherUser() {
+        long kakao = userUpsertRepository.upsert("사용자", "shared@example.com", "kakao");
+        long google = userUpsertRepository.upsert("사용자", "shared@example.com", "google");
+
+        assertThat(google).isNotEqualTo(kakao);
+        assertThat(userUpsertRepository.upsert("사용자", "shared@example.com", "kakao")).isEqualTo(kakao);
+        assertThat(userUpsertRepository.upsert("사용자", "shared@example.com", "google")).isEqualTo(google);
+    }
+
+    @Test
+    void idsAdvanceAfterDuplicateUpserts() {
+        long first = userUpsertRepository.upsert("a", "a@example.com", "kakao");
+        userUpsertRepository.upsert("a", "a@example.com", "kakao");
+        long next = userUpsertRepository.upsert("b", "b@example.com", "kakao");
+
+        // 중복 upsert가 LAST_INSERT_ID/생성 키를 잘못 돌려주면 다음 신규 사용자가 기존 id를 받게 됨
+        assertThat(next).isNotEqualTo(first);
+        assertThat(userRepository.findById(next).orElseThrow().getEmail()).isEqualTo("b@example.com");
+    }
+
+    private int count(String email, String provider) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ? AND provider = ?",
+                Integer.class, email, provider);
+    }
+}
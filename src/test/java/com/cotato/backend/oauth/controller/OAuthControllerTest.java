@@ -0,0 +1,135 @@
+package com.cotato.backend.oauth.controller;
+
+import com.cotato.backend.common.config.SecurityConfig;
+import com.cotato.backend.common.jwt.JwtTokenProvider;
+import com.cotato.backend.common.jwt.LogoutService;
+import com.cotato.backend.common.jwt.RefreshTokenService;
+import com.cotato.backend.common.jwt.RevocationEpochService;
+import com.cotato.backend.common.jwt.TokenBlacklistService;
+import com.cotato.backend.common.jwt.VerifiedToken;
+import com.cotato.backend.domain.user.repository.UserPrincipalCache;
+import com.cotato.backend.oauth.provider.OAuth2ProviderRegistry;
+import com.cotato.backend.oauth.service.OAuth2LoginClient;
+import com.cotato.backend.oauth.service.OAuthService;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OAuthController.class)
+@Import(SecurityConfig.class)
+class OAuthControllerTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String REFRESH = "refresh.payload.signature";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+    @MockitoBean
+    private UserPrincipalCache userPrincipalCache;
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+    @MockitoBean
+    private LogoutService logoutService;
+    @MockitoBean
+    private OAuthService oAuthService;
+    @MockitoBean
+    private OAuth2ProviderRegistry oAuth2ProviderRegistry;
+    @MockitoBean
+    private OAuth2LoginClient oAuth2LoginClient;
+    @MockitoBean
+    private TokenBlacklistService tokenBlacklistService;
+    @MockitoBean
+    private RevocationEpochService revocationEpochService;
+
+    @BeforeEach
+    void verifiedSignature() {
+        VerifiedToken verified = VerifiedToken.of(TOKEN, Jwts.claims()
+                .subject("1")
+                .add("type", "access")
+                .add("email", "user@example.com")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .build());
+        when(jwtTokenProvider.verify(TOKEN)).thenReturn(Optional.of(verified));
+        when(jwtTokenProvider.getEmail(verified)).thenReturn("user@example.com");
+    }
+
+    @Test
+    void activeTokenIsValid() throws Exception {
+        mockMvc.perform(get("/api/auth/validate").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void blacklistedTokenIsInvalid() throws Exception {
+        when(tokenBlacklistService.isBlacklisted(any())).thenReturn(true);
+
+        mockMvc.perform(get("/api/auth/validate").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void epochRevokedTokenIsInvalid() throws Exception {
+        when(revocationEpochService.isRevoked(any())).thenReturn(true);
+
+        mockMvc.perform(get("/api/auth/validate").header("Authorization", "Bearer " + TOKEN))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutDeletesRefreshSessionOfSameUser() throws Exception {
+        refreshTokenOf("1");
+
+        logout().andExpect(status().isOk());
+
+        verify(logoutService).logout(argThat(access -> access.getUserId() == 1L),
+                argThat(refresh -> refresh != null && refresh.getUserId() == 1L));
+    }
+
+    @Test
+    void logoutRejectsRefreshTokenOfAnotherUser() throws Exception {
+        refreshTokenOf("2");
+
+        logout().andExpect(status().isUnauthorized());
+
+        verify(logoutService, never()).logout(any(), any());
+    }
+
+    private void refreshTokenOf(String userId) {
+        when(jwtTokenProvider.verify(REFRESH)).thenReturn(Optional.of(VerifiedToken.of(REFRESH, Jwts.claims()
+                .subject(userId)
+                .add("type", "refresh")
+                .add("sid", "session")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .build())));
+    }
+
+    private ResultActions logout() throws Exception {
+        return mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer " + TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + REFRESH + "\"}"));
+    }
+}
@@ -0,0 +1,174 @@
+package com.cotato.backend.oauth.provider;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderJsonTest {
+
+    private final KakaoOAuth2Client kakao = new KakaoOAuth2Client();
+    private final NaverOAuth2Client naver = new NaverOAuth2Client();
+    private final GoogleOAuth2Client google = new GoogleOAuth2Client();
+
+    @Test
+    void readsKakaoNestedPaths() throws IOException {
+        OAuth2Profile profile = read(kakao, """
+                {"id":123,"connected_at":"2024-01-01T00:00:00Z",
+                 "properties":{"nickname":"속성 닉네임"},
+                 "kakao_account":{"profile_nickname_needs_agreement":false,
+                   "profile":{"nickname":"홍길동","thumbnail_image_url":"https://k.kakaocdn.net/t.jpg"},
+                   "has_email":true,"email_needs_agreement":false,"is_email_valid":true,
+                   "email":"user@kakao.com"}}
+                """);
+
+        assertThat(profile.getName()).isEqualTo("홍길동");
+        assertThat(profile.getEmail()).isEqualTo("user@kakao.com");
+        assertThat(profile.getProvider()).isEqualTo("kakao");
+    }
+
+    @Test
+    void readsNaverResponseObject() throws IOException {
+        OAuth2Profile profile = read(naver, """
+                {"resultcode":"00","message":"success",
+                 "response":{"id":"abc","nickname":"길동","name":"홍길동","email":"user@naver.com"}}
+                """);
+
+        assertThat(profile.getName()).isEqualTo("홍길동");
+        assertThat(profile.getEmail()).isEqualTo("user@naver.com");
+        assertThat(profile.getProvider()).isEqualTo("naver");
+    }
+
+    @Test
+    void readsGoogleTopLevelFields() throws IOException {
+        OAuth2Profile profile = read(google, """
+                {"sub":"1234567890","name":"Hong Gildong","given_name":"Gildong",
+                 "picture":"https://lh3.googleusercontent.com/a/x","email":"user@gmail.com","email_verified":true}
+                """);
+
+        assertThat(profile.getName()).isEqualTo("Hong Gildong");
+        assertThat(profile.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(profile.getProvider()).isEqualTo("google");
+    }
+
+    @Test
+    void skipsArraysAndLookalikeFields() throws IOException {
+        OAuth2Profile profile = read(kakao, """
+                {"email":"top-level@example.com",
+                 "for_partner":[{"email":"array@example.com"},["nested"],"x"],
+                 "kakao_account":{"emails":[{"email":"array2@example.com"}],
+                   "profile":{"nickname":"홍길동","extra":{"email":"deep@example.com"}},
+                   "email":"user@kakao.com"}}
+                """);
+
+        assertThat(profile.getName()).isEqualTo("홍길동");
+        assertThat(profile.getEmail()).isEqualTo("user@kakao.com");
+    }
+
+    @Test
+    void skipsObjectsDeeperThanMaxDepth() throws IOException {
+        OAuth2Profile profile = read(naver, """
+                {"a":{"b":{"c":{"d":{"email":"deep@example.com"}}}},
+                 "response":{"name":"홍길동","email":"user@naver.com"}}
+                """);
+
+        assertThat(profile.getEmail()).isEqualTo("user@naver.com");
+    }
+
+    @Test
+    void allowsMissingName() throws IOException {
+        OAuth2Profile profile = read(google, """
+                {"sub":"1234567890","email":"user@gmail.com"}
+                """);
+
+        assertThat(profile.getName()).isNull();
+        assertThat(profile.getEmail()).isEqualTo("user@gmail.com");
+    }
+
+    @Test
+    void rejectsKakaoProfileWithoutEmailConsent() {
+        assertErrorCode(kakao, """
+                {"id":123,"kakao_account":{"profile":{"nickname":"홍길동"},
+                 "has_email":true,"email_needs_agreement":true}}
+                """, ErrorCode.OAUTH_EMAIL_REQUIRED);
+    }
+
+    @Test
+    void rejectsNaverProfileWithoutEmail() {
+        assertErrorCode(naver, """
+                {"resultcode":"00","message":"success","response":{"id":"abc","name":"홍길동"}}
+                """, ErrorCode.OAUTH_EMAIL_REQUIRED);
+    }
+
+    @Test
+    void rejectsGoogleProfileWithoutEmail() {
+        assertErrorCode(google, """
+                {"sub":"1234567890","name":"Hong Gildong"}
+                """, ErrorCode.OAUTH_EMAIL_REQUIRED);
+    }
+
+    @Test
+    void rejectsEmailWithWrongType() {
+        assertErrorCode(google, """
+                {"sub":"1234567890","name":"Hong Gildong","email":{"value":"user@gmail.com"}}
+                """, ErrorCode.OAUTH_EMAIL_REQUIRED);
+    }
+
+    @Test
+    void profileWithoutNameOrEmailIsProviderError() {
+        assertErrorCode(kakao, """
+                {"id":123}
+                """, ErrorCode.OAUTH_PROVIDER_ERROR);
+    }
+
+    @Test
+    void nonObjectResponseIsProviderError() {
+        assertErrorCode(google, "[]", ErrorCode.OAUTH_PROVIDER_ERROR);
+    }
+
+    @Test
+    void readsAccessAndIdToken() throws IOException {
+        try (JsonParser parser = ProviderJson.parser(bytes("""
+                {"access_token":"at","token_type":"bearer","id_token":"it","scope":["openid","email"],"expires_in":3599}
+                """))) {
+            ProviderToken token = ProviderJson.readToken(parser);
+
+            assertThat(token.accessToken()).isEqualTo("at");
+            assertThat(token.idToken()).isEqualTo("it");
+        }
+    }
+
+    @Test
+    void tokenErrorBodyIsRejected() {
+        assertThatThrownBy(() -> {
+            try (JsonParser parser = ProviderJson.parser(bytes("""
+                    {"error":"invalid_request","error_description":"no valid data in session"}
+                    """))) {
+                ProviderJson.readToken(parser);
+            }
+        }).isInstanceOfSatisfying(AppException.class,
+                ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_INVALID_GRANT));
+    }
+
+    private static OAuth2Profile read(OAuth2ProviderClient client, String json) throws IOException {
+        try (JsonParser parser = ProviderJson.parser(bytes(json))) {
+            return client.readProfile(parser);
+        }
+    }
+
+    private static void assertErrorCode(OAuth2ProviderClient client, String json, ErrorCode errorCode) {
+        assertThatThrownBy(() -> read(client, json))
+                .isInstanceOfSatisfying(AppException.class, ex -> assertThat(ex.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
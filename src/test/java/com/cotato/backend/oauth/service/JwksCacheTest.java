@@ -0,0 +1,127 @@
+package com.cotato.backend.oauth.service;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class JwksCacheTest {
+
+    private static final String JWKS_URI = "https://idp.example.com/jwks";
+
+    private final KeyPair oldKey = Jwts.SIG.RS256.keyPair().build();
+    private final KeyPair newKey = Jwts.SIG.RS256.keyPair().build();
+    private final RestClient.Builder restClientBuilder = RestClient.builder();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restClientBuilder).build();
+    // 백그라운드 갱신을 바로 실행하지 않고 모아 두었다가 테스트에서 실행
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+
+    @Test
+    void fetchesOnceWithinTtl() {
+        respond(jwks("k1", oldKey));
+        JwksCache cache = cache(Duration.ofHours(1), Duration.ofHours(24));
+
+        assertThat(cache.get("k1")).isEqualTo(oldKey.getPublic());
+        assertThat(cache.get("k1")).isEqualTo(oldKey.getPublic());
+
+        server.verify();
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    void servesStaleKeysAndSchedulesSingleBackgroundRefresh() throws InterruptedException {
+        respond(jwks("k1", oldKey));
+        respond(jwks("k2", newKey));
+        JwksCache cache = cache(Duration.ofMillis(20), Duration.ofHours(24));
+        cache.get("k1");
+        Thread.sleep(50);
+
+        assertThat(cache.get("k1")).isEqualTo(oldKey.getPublic());
+        assertThat(cache.get("k1")).isEqualTo(oldKey.getPublic());
+        assertThat(backgroundTasks).hasSize(1);
+
+        backgroundTasks.remove(0).run();
+
+        assertThat(cache.get("k2")).isEqualTo(newKey.getPublic());
+        server.verify();
+    }
+
+    @Test
+    void keepsOldKeysWhenBackgroundRefreshFails() throws InterruptedException {
+        respond(jwks("k1", oldKey));
+        server.expect(once(), requestTo(JWKS_URI)).andRespond(withServerError());
+        JwksCache cache = cache(Duration.ofMillis(20), Duration.ofHours(24));
+        cache.get("k1");
+        Thread.sleep(50);
+
+        cache.get("k1");
+        backgroundTasks.remove(0).run();
+
+        assertThat(cache.get("k1")).isEqualTo(oldKey.getPublic());
+        server.verify();
+    }
+
+    @Test
+    void refreshesSynchronouslyPastMaxStale() throws InterruptedException {
+        respond(jwks("k1", oldKey));
+        respond(jwks("k2", newKey));
+        JwksCache cache = cache(Duration.ofMillis(10), Duration.ofMillis(30));
+        cache.get("k1");
+        Thread.sleep(60);
+
+        assertThat(cache.get("k2")).isEqualTo(newKey.getPublic());
+        assertThat(backgroundTasks).isEmpty();
+        server.verify();
+    }
+
+    @Test
+    void unknownKeyIdDoesNotRefetchRightAfterRefresh() {
+        respond(jwks("k1", oldKey));
+        JwksCache cache = cache(Duration.ofHours(1), Duration.ofHours(24));
+
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.get("unknown")).isNull();
+
+        server.verify();
+    }
+
+    private JwksCache cache(Duration ttl, Duration maxStale) {
+        return new JwksCache(JWKS_URI, restClientBuilder.build(), backgroundTasks::add, ttl, maxStale);
+    }
+
+    private void respond(String json) {
+        server.expect(once(), requestTo(JWKS_URI)).andRespond(withSuccess(json, MediaType.APPLICATION_JSON));
+    }
+
+    static String jwks(String keyId, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return """
+                {"keys":[{"kty":"RSA","use":"sig","alg":"RS256","kid":"%s","n":"%s","e":"%s"}]}
+                """.formatted(keyId, base64Url(key.getModulus()), base64Url(key.getPublicExponent()));
+    }
+
+    // JWK 정수는 부호 바이트 없는 빅엔디안
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,141 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.config.OAuthHttpProperties;
+import com.cotato.backend.common.config.ProviderDeadline;
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthProviderGuardTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final OAuthProviderGuard guard = new OAuthProviderGuard(
+            BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+            circuitBreakerRegistry,
+            new OAuthHttpProperties(200, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5),
+                    Duration.ofSeconds(60), Map.of("kakao", new OAuthHttpProperties.Provider(
+                            List.of("kauth.kakao.com"), 20, Duration.ofSeconds(1), Duration.ofSeconds(3), DEADLINE))),
+            meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void releaseBlockedCalls() {
+        release.countDown();
+    }
+
+    @Test
+    void fullBulkheadRejectsAsProviderUnavailable() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CompletableFuture<String> occupying = CompletableFuture.supplyAsync(() ->
+                guard.execute(OAuth2Provider.NAVER, () -> {
+                    entered.countDown();
+                    await(release);
+                    return "first";
+                }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.execute(OAuth2Provider.NAVER, () -> "second"))
+                .isInstanceOfSatisfying(AppException.class, ex -> {
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+                    assertThat(ex.getCause()).isInstanceOf(BulkheadFullException.class);
+                });
+        assertThat(rejected("naver", "bulkhead-full")).isEqualTo(1.0);
+        // 다른 제공자는 영향 없음
+        assertThat(guard.execute(OAuth2Provider.KAKAO, () -> "kakao")).isEqualTo("kakao");
+
+        release.countDown();
+        assertThat(occupying.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCalling() {
+        circuitBreakerRegistry.circuitBreaker("oauth-kakao").transitionToOpenState();
+
+        assertThatThrownBy(() -> guard.execute(OAuth2Provider.KAKAO, () -> {
+            throw new AssertionError("호출되면 안 됨");
+        })).isInstanceOfSatisfying(AppException.class, ex -> {
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+            assertThat(ex.getCause()).isInstanceOf(CallNotPermittedException.class);
+        });
+        assertThat(rejected("kakao", "circuit-open")).isEqualTo(1.0);
+    }
+
+    @Test
+    void deadlineExceededInsideWrappedProviderErrorIsRejected() {
+        // OAuth2LoginClient가 요청 팩토리의 ExceededException을 OAUTH_PROVIDER_ERROR로 감싸 던지는 형태
+        assertThatThrownBy(() -> guard.execute(OAuth2Provider.KAKAO, () -> {
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, new ProviderDeadline.ExceededException());
+        })).isInstanceOfSatisfying(AppException.class, ex -> {
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+            assertThat(ex.getCause()).isInstanceOf(ProviderDeadline.ExceededException.class);
+        });
+        assertThatThrownBy(() -> guard.execute(OAuth2Provider.KAKAO, () -> {
+            throw new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, new SocketTimeoutException("Read timed out"));
+        })).isInstanceOfSatisfying(AppException.class,
+                ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE));
+        assertThat(rejected("kakao", "deadline")).isEqualTo(2.0);
+    }
+
+    @Test
+    void otherAppExceptionsPassThrough() {
+        AppException invalidGrant = new AppException(ErrorCode.OAUTH_INVALID_GRANT);
+
+        assertThatThrownBy(() -> guard.execute(OAuth2Provider.KAKAO, () -> {
+            throw invalidGrant;
+        })).isSameAs(invalidGrant);
+    }
+
+    @Test
+    void reactiveCallSlowerThanDeadlineIsRejected() {
+        StepVerifier.create(guard.execute(OAuth2Provider.KAKAO, Mono.never()))
+                .expectErrorSatisfies(ex -> {
+                    assertThat(ex).isInstanceOf(AppException.class);
+                    assertThat(((AppException) ex).getErrorCode()).isEqualTo(ErrorCode.OAUTH_PROVIDER_UNAVAILABLE);
+                    assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+                })
+                .verify(Duration.ofSeconds(5));
+        assertThat(rejected("kakao", "deadline")).isEqualTo(1.0);
+
+        StepVerifier.create(guard.execute(OAuth2Provider.KAKAO, Mono.just("profile")))
+                .expectNext("profile")
+                .verifyComplete();
+    }
+
+    private double rejected(String provider, String reason) {
+        return meterRegistry.get("oauth.provider.rejected").tag("provider", provider).tag("reason", reason)
+                .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.domain.oauth.OAuth2Profile;
+import com.cotato.backend.domain.oauth.OAuth2Provider;
+import com.cotato.backend.oauth.provider.OAuth2ProviderClient;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class OidcIdTokenVerifierTest {
+
+    private static final String GOOGLE_JWKS = "https://www.googleapis.com/oauth2/v3/certs";
+    private static final String CLIENT_ID = "client-id";
+
+    private final KeyPair signingKey = Jwts.SIG.RS256.keyPair().build();
+    private final RestClient.Builder restClientBuilder = RestClient.builder();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restClientBuilder).build();
+    private final OidcIdTokenVerifier verifier;
+
+    OidcIdTokenVerifierTest() {
+        server.expect(manyTimes(), requestTo(GOOGLE_JWKS))
+                .andRespond(withSuccess(JwksCacheTest.jwks("k1", signingKey), MediaType.APPLICATION_JSON));
+        verifier = verifier(true);
+    }
+
+    @AfterEach
+    void shutdown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    void acceptsValidToken() {
+        Optional<Claims> claims = verifier.verify(OAuth2Provider.GOOGLE, idToken().compact(), CLIENT_ID);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().get("email", String.class)).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void acceptsIssuerWithoutScheme() {
+        String token = idToken().issuer("accounts.google.com").compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isPresent();
+    }
+
+    @Test
+    void rejectsForeignIssuer() {
+        String token = idToken().issuer("https://evil.example.com").compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenIssuedForAnotherClient() {
+        String token = idToken().audience().single("other-client").compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isEmpty();
+    }
+
+    @Test
+    void acceptsExpiryWithinClockSkew() {
+        String token = idToken().expiration(Date.from(Instant.now().minusSeconds(30))).compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isPresent();
+    }
+
+    @Test
+    void rejectsExpiryBeyondClockSkew() {
+        String token = idToken().expiration(Date.from(Instant.now().minusSeconds(120))).compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownKeyId() {
+        String token = idToken().header().keyId("k2").and().compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedByAnotherKey() {
+        String token = idToken().signWith(Jwts.SIG.RS256.keyPair().build().getPrivate()).compact();
+
+        assertThat(verifier.verify(OAuth2Provider.GOOGLE, token, CLIENT_ID)).isEmpty();
+    }
+
+    @Test
+    void returnsEmptyWhenDisabled() {
+        OidcIdTokenVerifier disabled = verifier(false);
+
+        assertThat(disabled.verify(OAuth2Provider.GOOGLE, idToken().compact(), CLIENT_ID)).isEmpty();
+        disabled.shutdown();
+    }
+
+    @Test
+    void buildsProfileFromVerifiedEmail() {
+        Optional<OAuth2Profile> profile = verifier.verifyProfile(googleClient(), idToken().compact());
+
+        assertThat(profile).isPresent();
+        assertThat(profile.get().getEmail()).isEqualTo("user@example.com");
+        assertThat(profile.get().getName()).isEqualTo("홍길동");
+        assertThat(profile.get().getProvider()).isEqualTo(OAuth2Provider.GOOGLE.getRegistrationId());
+    }
+
+    @Test
+    void acceptsStringEmailVerified() {
+        String token = idToken().claim("email_verified", "true").compact();
+
+        assertThat(verifier.verifyProfile(googleClient(), token)).isPresent();
+    }
+
+    @Test
+    void fallsBackWhenEmailNotVerified() {
+        String token = idToken().claim("email_verified", false).compact();
+
+        assertThat(verifier.verifyProfile(googleClient(), token)).isEmpty();
+    }
+
+    @Test
+    void fallsBackWhenEmailVerifiedMissing() {
+        String token = idToken(null).compact();
+
+        assertThat(verifier.verifyProfile(googleClient(), token)).isEmpty();
+    }
+
+    private OidcIdTokenVerifier verifier(boolean enabled) {
+        return new OidcIdTokenVerifier(restClientBuilder.build(), enabled, Duration.ofHours(1), Duration.ofHours(24));
+    }
+
+    private JwtBuilder idToken() {
+        return idToken(true);
+    }
+
+    // emailVerified가 null이면 email_verified 클레임 없음
+    private JwtBuilder idToken(Object emailVerified) {
+        Instant now = Instant.now();
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId("k1").and()
+                .issuer("https://accounts.google.com")
+                .audience().single(CLIENT_ID)
+                .subject("1234567890")
+                .claim("email", "user@example.com")
+                .claim("name", "홍길동")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .signWith(signingKey.getPrivate());
+        return emailVerified != null ? builder.claim("email_verified", emailVerified) : builder;
+    }
+
+    private static OAuth2ProviderClient googleClient() {
+        OAuth2ProviderClient client = mock(OAuth2ProviderClient.class);
+        when(client.provider()).thenReturn(OAuth2Provider.GOOGLE);
+        when(client.clientId()).thenReturn(CLIENT_ID);
+        when(client.idTokenNameClaim()).thenReturn("name");
+        return client;
+    }
+}
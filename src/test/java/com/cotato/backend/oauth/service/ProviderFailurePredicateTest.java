@@ -0,0 +1,44 @@
+package com.cotato.backend.oauth.service;
+
+import com.cotato.backend.common.exception.AppException;
+import com.cotato.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderFailurePredicateTest {
+
+    private final ProviderFailurePredicate predicate = new ProviderFailurePredicate();
+
+    @Test
+    void missingEmailConsentIsNotProviderFailure() {
+        assertThat(predicate.test(new AppException(ErrorCode.OAUTH_EMAIL_REQUIRED))).isFalse();
+    }
+
+    @Test
+    void rejectedTokenExchangeIsNotProviderFailure() {
+        assertThat(predicate.test(new AppException(ErrorCode.OAUTH_INVALID_GRANT, "토큰 교환 거절: invalid_grant"))).isFalse();
+    }
+
+    @Test
+    void providerClientErrorIsNotProviderFailure() {
+        assertThat(predicate.test(new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, responseException(HttpStatus.BAD_REQUEST))))
+                .isFalse();
+    }
+
+    @Test
+    void providerServerErrorAndTimeoutAreFailures() {
+        assertThat(predicate.test(new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, responseException(HttpStatus.BAD_GATEWAY))))
+                .isTrue();
+        assertThat(predicate.test(new AppException(ErrorCode.OAUTH_PROVIDER_ERROR, new SocketTimeoutException())))
+                .isTrue();
+    }
+
+    private static RestClientResponseException responseException(HttpStatus status) {
+        return new RestClientResponseException(status.getReasonPhrase(), status, status.getReasonPhrase(), null, null, null);
+    }
+}
@@ -0,0 +1,233 @@
+package com.cotato.backend.user.service;
+
+import com.cotato.backend.common.exception.ValidationException;
+import com.cotato.backend.domain.user.entity.User;
+import com.cotato.backend.domain.user.repository.UserRepository;
+import com.cotato.backend.domain.user.repository.UserSummary;
+import com.cotato.backend.user.dto.response.UserPageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+// 키셋 페이지·내보내기 쿼리는 내장 H2로 검증 (캐시·Refresh Token 저장소는 사용하지 않음)
+@DataJpaTest
+@ActiveProfiles("test")
+class UserServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    // 애플리케이션 ObjectMapper와 같이 날짜를 ISO 문자열로 기록
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private UserService userService;
+    private int saved;
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserService(userRepository, null, null, entityManager, objectMapper);
+    }
+
+    @Test
+    void walksPagesWithCursor() {
+        List<Long> ids = save("kakao", 5);
+
+        UserPageResponse first = userService.getPage(null, null, 2);
+        assertThat(idsOf(first)).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(ids.get(1));
+
+        UserPageResponse second = userService.getPage(first.getNextCursor(), null, 2);
+        assertThat(idsOf(second)).containsExactly(ids.get(2), ids.get(3));
+        assertThat(second.isHasNext()).isTrue();
+
+        UserPageResponse last = userService.getPage(second.getNextCursor(), null, 2);
+        assertThat(idsOf(last)).containsExactly(ids.get(4));
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorRowIsExcluded() {
+        List<Long> ids = save("kakao", 3);
+
+        UserPageResponse page = userService.getPage(ids.get(0), null, 10);
+
+        assertThat(idsOf(page)).containsExactly(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    void exactlyFullPageHasNoNext() {
+        save("kakao", 4);
+
+        UserPageResponse first = userService.getPage(null, null, 2);
+        UserPageResponse second = userService.getPage(first.getNextCursor(), null, 2);
+
+        assertThat(second.getUsers()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void cursorPastLastUserReturnsEmptyPage() {
+        List<Long> ids = save("kakao", 2);
+
+        UserPageResponse page = userService.getPage(ids.get(1), null, 10);
+
+        assertThat(page.getUsers()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void fetchesOneExtraRowToDetectNextPage() {
+        UserRepository repository = mock(UserRepository.class);
+        UserService service = new UserService(repository, null, null, entityManager, objectMapper);
+
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+
+        service.getPage(7L, null, 20);
+        verify(repository).findPageAfter(eq(7L), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(21);
+
+        service.getPage(null, List.of("kakao"), UserService.MAX_PAGE_SIZE);
+        verify(repository).findPageAfter(eq(0L), eq(List.of("kakao")), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(UserService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void rejectsSizeOutsideRangeAndNegativeCursor() {
+        assertThatThrownBy(() -> userService.getPage(null, null, UserService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> userService.getPage(null, null, 0))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> userService.getPage(-1L, null, 20))
+                .isInstanceOf(ValidationException.class);
+        assertThat(userService.getPage(null, null, UserService.MAX_PAGE_SIZE).getUsers()).isEmpty();
+    }
+
+    @Test
+    void filtersByProviderAcrossPages() {
+        List<Long> kakao = new ArrayList<>();
+        List<Long> google = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            kakao.addAll(save("kakao", 1));
+            save("naver", 1);
+            google.addAll(save("google", 1));
+        }
+
+        UserPageResponse first = userService.getPage(null, List.of("kakao", "google"), 4);
+        UserPageResponse second = userService.getPage(first.getNextCursor(), List.of("kakao", "google"), 4);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        List<Long> all = new ArrayList<>(idsOf(first));
+        all.addAll(idsOf(second));
+        assertThat(all).containsExactly(kakao.get(0), google.get(0), kakao.get(1), google.get(1), kakao.get(2), google.get(2));
+        assertThat(first.getUsers()).extracting(UserSummary::provider).containsOnly("kakao", "google");
+    }
+
+    @Test
+    void exportsJsonLinesInIdOrder() throws IOException {
+        List<Long> ids = save("kakao", 2);
+        ids.addAll(save("naver", 1));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = userService.export(null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(ids.get(0));
+        assertThat(first.get("email").asText()).isEqualTo("kakao0@example.com");
+        assertThat(first.get("provider").asText()).isEqualTo("kakao");
+        assertThat(first.get("createdAt").isTextual()).isTrue();
+        assertThat(lines).allMatch(line -> line.startsWith("{"));
+        assertThat(objectMapper.readTree(lines[2]).get("id").asLong()).isEqualTo(ids.get(2));
+    }
+
+    @Test
+    void exportFiltersByProvider() throws IOException {
+        save("kakao", 2);
+        save("google", 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = userService.export(List.of("google"), out);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(objectMapper.readTree(out.toString(StandardCharsets.UTF_8)).get("provider").asText()).isEqualTo("google");
+    }
+
+    @Test
+    void exportDetachesRowsAndFlushesInChunks() throws IOException {
+        save("kakao", 1001);
+        entityManager.flush();
+        entityManager.clear();
+        LineCountingStream out = new LineCountingStream();
+
+        long count = userService.export(null, out);
+
+        assertThat(count).isEqualTo(1001);
+        assertThat(out.linesAtFlush).first().isEqualTo(1000);
+        assertThat(out.linesAtFlush).last().isEqualTo(1001);
+        assertThat(out.closed).isFalse();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private List<Long> save(String provider, int count) {
+        // (email, provider) 유니크 제약 → 호출마다 다른 번호 사용
+        int start = saved;
+        saved += count;
+        List<User> users = IntStream.range(start, start + count)
+                .mapToObj(i -> User.builder().name("사용자" + i).email(provider + i + "@example.com").provider(provider).build())
+                .toList();
+        return new ArrayList<>(userRepository.saveAll(users).stream().map(User::getId).toList());
+    }
+
+    private static List<Long> idsOf(UserPageResponse page) {
+        return page.getUsers().stream().map(UserSummary::id).toList();
+    }
+
+    // flush 시점마다 지금까지 받은 행 수를 기록
+    private static final class LineCountingStream extends ByteArrayOutputStream {
+        private final List<Integer> linesAtFlush = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            linesAtFlush.add((int) toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}